@@ -48,7 +48,10 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.ImmutableDataCachingUtil;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.lighting.AsyncLightingEngine;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -178,6 +181,40 @@ static void reportTimings(CommandSource sender) {
             ).build();
         }));
 
+        // Metrics of the asynchronous tasks of each plugin
+
+        builder.add("asyncscheduler", JSONUtil.mapArrayToObject(SpongeImpl.getScheduler().getAsyncTaskQueues(), (queue) -> {
+            return JSONUtil.singleObjectPair(queue.getPlugin().getId(), JSONUtil.objectBuilder()
+                    .add("queued", queue.getQueuedTasks())
+                    .add("running", queue.getRunningTasks())
+                    .add("submitted", queue.getSubmittedTasks())
+                    .add("rejected", queue.getRejectedTasks())
+                    .add("completed", queue.getCompletedTasks())
+                    .add("runtime", queue.getRunTime())
+                    .add("waittime", queue.getWaitTime())
+            );
+        }));
+
+        // Backlog of the async lighting engine of each world
+
+        if (SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+            builder.add("asynclighting", JSONUtil.mapArrayToObject(SpongeImpl.getServer().worlds, (world) -> {
+                final AsyncLightingEngine engine = ((IMixinWorldServer) world).getLightingEngine();
+                return JSONUtil.singleObjectPair(world.getWorldInfo().getWorldName(), JSONUtil.objectBuilder()
+                        .add("backlog", engine.getBacklog())
+                        .add("peakbacklog", engine.getPeakBacklog())
+                        .add("processed", engine.getProcessedUpdates())
+                );
+            }));
+        }
+
+        // Hit rates of the immutable data caches
+
+        builder.add("immutabledatacache", JSONUtil.objectBuilder()
+                .add("manipulators", serializeCacheStats(ImmutableDataCachingUtil.getManipulatorStats()))
+                .add("values", serializeCacheStats(ImmutableDataCachingUtil.getValueStats())));
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
@@ -186,6 +223,14 @@ static void reportTimings(CommandSource sender) {
         new TimingsExport(sender, builder.build(), history).start();
     }
 
+    private static JsonObjectBuilder serializeCacheStats(ImmutableDataCachingUtil.Stats stats) {
+        return JSONUtil.objectBuilder()
+                .add("hits", stats.getHits())
+                .add("misses", stats.getMisses())
+                .add("hitrate", stats.getHitRate())
+                .add("misstime", stats.getAverageMissTime());
+    }
+
     static long getCost() {
         // Benchmark the users System.nanotime() for cost basis
         int passes = 200;
@@ -71,6 +71,10 @@ public class WorldTimingsHandler {
     public final Timing causeTrackerBlockBreakTimer;
     public final Timing causeTrackerEntityTimer;
     public final Timing causeTrackerEntityItemTimer;
+    public final Timing causeTrackerEntityTickTimer;
+    public final Timing causeTrackerTileEntityTickTimer;
+    public final Timing causeTrackerBlockTickTimer;
+    public final Timing causeTrackerRandomBlockTickTimer;
 
     // Chunk population
     public final Timing chunkPopulate;
@@ -117,6 +121,10 @@ public WorldTimingsHandler(World world) {
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
         this.causeTrackerEntityTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityCaptures");
         this.causeTrackerEntityItemTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityItemCaptures");
+        this.causeTrackerEntityTickTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityTickPhase");
+        this.causeTrackerTileEntityTickTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - TileEntityTickPhase");
+        this.causeTrackerBlockTickTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockTickPhase");
+        this.causeTrackerRandomBlockTickTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - RandomBlockTickPhase");
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
     }
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class AsyncSchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "max-threads", comment = "The maximum amount of threads used to run asynchronous tasks.")
+    private int maxThreads = 32;
+
+    @Setting(value = "max-concurrent-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks a single plugin can run at the same time.\n"
+                                                                  + "Additional tasks are queued until a running task finishes. Set to 0 to\n"
+                                                                  + "only be limited by 'max-threads'.")
+    private int maxConcurrentTasksPerPlugin = 8;
+
+    @Setting(value = "max-queued-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks a single plugin can have waiting to be run.\n"
+                                                              + "Tasks exceeding this limit are handled by the 'rejection-policy'. Set to 0\n"
+                                                              + "to queue an unlimited amount of tasks.")
+    private int maxQueuedTasksPerPlugin = 1000;
+
+    @Setting(value = "rejection-policy", comment = "The policy used when a plugin exceeds 'max-queued-tasks-per-plugin'.\n"
+                                                   + "'DISCARD_NEWEST' drops the task which was submitted, 'DISCARD_OLDEST' drops\n"
+                                                   + "the task which waited the longest in favor of the new one.")
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.DISCARD_NEWEST;
+
+    @Setting(value = "work-stealing", comment = "If enabled, asynchronous tasks run on a work-stealing pool instead of a fixed thread pool.")
+    private boolean workStealing = false;
+
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    public int getMaxConcurrentTasksPerPlugin() {
+        return this.maxConcurrentTasksPerPlugin;
+    }
+
+    public int getMaxQueuedTasksPerPlugin() {
+        return this.maxQueuedTasksPerPlugin;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    public boolean useWorkStealing() {
+        return this.workStealing;
+    }
+
+    public enum RejectionPolicy {
+        DISCARD_NEWEST,
+        DISCARD_OLDEST
+    }
+
+}
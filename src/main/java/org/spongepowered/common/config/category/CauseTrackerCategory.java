@@ -51,6 +51,15 @@ public class CauseTrackerCategory extends ConfigCategory {
                                                                  + "than what is expected.")
     boolean reportWorldTickDifferentWorlds = false;
 
+    @Setting(value = "context-pool-size", comment = "The amount of phase contexts of entity ticks, packets and explosions which are\n"
+                                                    + "kept to be reused once their phase completed. 0 disables pooling.")
+    int contextPoolSize = 64;
+
+    @Setting(value = "context-leak-detection", comment = "If true, pooled phase contexts record where they were acquired and released,\n"
+                                                         + "to report contexts which are never completed or used after completion.\n"
+                                                         + "This is a debugging option and allocates a stack trace per context.")
+    boolean contextLeakDetection = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -70,4 +79,12 @@ public boolean reportWorldTickDifferences() {
     public void setReportWorldTickDifferentWorlds(boolean reportWorldTickDifferentWorlds) {
         this.reportWorldTickDifferentWorlds = reportWorldTickDifferentWorlds;
     }
+
+    public int getContextPoolSize() {
+        return this.contextPoolSize;
+    }
+
+    public boolean detectContextLeaks() {
+        return this.contextLeakDetection;
+    }
 }
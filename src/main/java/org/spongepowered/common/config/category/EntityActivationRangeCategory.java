@@ -39,6 +39,9 @@ public class EntityActivationRangeCategory extends ConfigCategory {
     private Map<String, Integer> defaultRanges = new HashMap<>();
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, EntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "parallel-chunk-threshold", comment = "The amount of chunks in range of players above which the activation checks are\n"
+                                                           + "split across multiple threads. Set to 0 to always check on the main thread.")
+    private int parallelThreshold = 0;
 
     public EntityActivationRangeCategory() {
         this.defaultRanges.put("ambient", 32);
@@ -59,4 +62,8 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, EntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
 }
\ No newline at end of file
@@ -53,6 +53,19 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "async-lighting-threads", comment = "The amount of threads used per world to run async lighting updates.\n"
+                                                         + "Updates of regions which don't overlap are processed in parallel.")
+    private int asyncLightingThreads = 2;
+
+    @Setting(value = "chunk-writer-threads", comment = "The amount of threads shared by all worlds to write saved chunks to their region files.\n"
+                                                       + "Chunks of different region files are compressed and written in parallel.")
+    private int chunkWriterThreads = 2;
+
+    @Setting(value = "mapped-region-files", comment = "If enabled, chunks are read from memory mapped region files instead of seeking\n"
+                                                      + "through the file for every chunk. Mapped files can't be deleted while they are\n"
+                                                      + "in use on some platforms, which may break deleting worlds that were loaded.")
+    private boolean mappedRegionFiles = false;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +85,16 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public int getAsyncLightingThreads() {
+        return this.asyncLightingThreads;
+    }
+
+    public int getChunkWriterThreads() {
+        return this.chunkWriterThreads;
+    }
+
+    public boolean useMappedRegionFiles() {
+        return this.mappedRegionFiles;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class TickTrackingCategory extends ConfigCategory {
+
+    @Setting(value = "mode", comment = "How ticks of this kind are tracked by the cause tracker.\n"
+                                       + "FULL tracks every tick, DISABLED ticks without tracking,\n"
+                                       + "SAMPLED tracks one of every 'sample-rate' ticks and\n"
+                                       + "BUDGET tracks ticks until 'budget' milliseconds were spent tracking them in a world tick.\n"
+                                       + "Note: Changes made by untracked ticks do not throw events with this tick as cause.")
+    private Mode mode = Mode.FULL;
+
+    @Setting(value = "sample-rate", comment = "The interval in which ticks are tracked in SAMPLED mode.")
+    private int sampleRate = 20;
+
+    @Setting(value = "budget", comment = "The milliseconds per world tick spent on tracked ticks in BUDGET mode.")
+    private double budget = 5.0D;
+
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    public int getSampleRate() {
+        return this.sampleRate;
+    }
+
+    public double getBudget() {
+        return this.budget;
+    }
+
+    public enum Mode {
+        FULL,
+        DISABLED,
+        SAMPLED,
+        BUDGET
+    }
+}
@@ -33,6 +33,7 @@
 import org.spongepowered.common.config.category.EntityCollisionCategory;
 import org.spongepowered.common.config.category.GeneralCategory;
 import org.spongepowered.common.config.category.LoggingCategory;
+import org.spongepowered.common.config.category.PhaseTrackingCategory;
 import org.spongepowered.common.config.category.SpawnerCategory;
 import org.spongepowered.common.config.category.TileEntityActivationCategory;
 import org.spongepowered.common.config.category.TimingsCategory;
@@ -56,6 +57,8 @@ public abstract class ConfigBase {
     private GeneralCategory general = new GeneralCategory();
     @Setting
     private LoggingCategory logging = new LoggingCategory();
+    @Setting(value = "phase-tracking", comment = "Controls which ticks of this world are tracked by the cause tracker.")
+    private PhaseTrackingCategory phaseTracking = new PhaseTrackingCategory();
     @Setting(value = "spawner", comment = "Used to control spawn limits around players.\n"
             + "Note: The radius uses the lower value of mob spawn range and server's view distance.")
     private SpawnerCategory spawner = new SpawnerCategory();
@@ -105,6 +108,10 @@ public LoggingCategory getLogging() {
         return this.logging;
     }
 
+    public PhaseTrackingCategory getPhaseTracking() {
+        return this.phaseTracking;
+    }
+
     public SpawnerCategory getSpawner() {
         return this.spawner;
     }
@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import ninja.leaping.configurate.objectmapping.Setting;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
 import org.spongepowered.common.config.category.BungeeCordCategory;
 import org.spongepowered.common.config.category.CauseTrackerCategory;
 import org.spongepowered.common.config.category.CommandsCategory;
@@ -80,6 +81,9 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "cause-tracker")
     protected CauseTrackerCategory causeTracker = new CauseTrackerCategory();
 
+    @Setting(value = "async-scheduler", comment = "Configuration options related to the thread pool running asynchronous plugin tasks.")
+    private AsyncSchedulerCategory asyncScheduler = new AsyncSchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -143,4 +147,8 @@ public CauseTrackerCategory getCauseTracker() {
         return this.causeTracker;
     }
 
+    public AsyncSchedulerCategory getAsyncScheduler() {
+        return this.asyncScheduler;
+    }
+
 }
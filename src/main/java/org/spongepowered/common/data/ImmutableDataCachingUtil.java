@@ -24,21 +24,26 @@
  */
 package org.spongepowered.common.data;
 
-import static org.spongepowered.common.util.ReflectionUtil.createUnsafeInstance;
-
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.ReflectionUtil;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.util.Arrays;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 public final class ImmutableDataCachingUtil {
 
@@ -47,17 +52,27 @@ private ImmutableDataCachingUtil() {}
     public static final int CACHE_LIMIT_FOR_INDIVIDUAL_TYPE = 100;
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
+    public static final int INTERNED_INT_LIMIT = 256;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
         .build();
 
+    // Single boolean, enum and small int arguments skip the caches above, keyed
+    // by the manipulator class or by the value class, key and default value.
+    // Tables are only created once such an argument is seen.
+    private static final ConcurrentMap<Object, InternTable> internTables = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<CacheKey, Factory> factories = new ConcurrentHashMap<>();
+
+    private static final Stats manipulatorStats = new Stats();
+    private static final Stats valueStats = new Stats();
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,55 +90,260 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
-        // We can't really use the generic typing here because it's complicated...
-        try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
-                    try {
-                        return createUnsafeInstance(immutableClass, args);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
-                                                     + Arrays.toString(args), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
-                                                            + Arrays.toString(args));
-            });
-        } catch (Throwable e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName(), e);
+        final Object[] arguments = args == null ? new Object[] {null} : args;
+        if (arguments.length == 1 && InternTable.isInternable(arguments[0])) {
+            final InternTable table = internTables.computeIfAbsent(immutableClass, key -> new InternTable());
+            final AtomicReferenceArray<Object> slots = table.getSlots(arguments[0]);
+            if (slots != null) {
+                final int index = InternTable.indexOf(arguments[0]);
+                final Object interned = slots.get(index);
+                if (interned != null) {
+                    manipulatorStats.hits.increment();
+                    return (T) interned;
+                }
+                final T created = (T) create(manipulatorStats, immutableClass, arguments);
+                slots.set(index, created);
+                return created;
+            }
         }
+        final CacheKey key = new CacheKey(immutableClass, arguments);
+        final ImmutableDataManipulator<?, ?> cached = manipulatorCache.getIfPresent(key);
+        if (cached != null) {
+            manipulatorStats.hits.increment();
+            return (T) cached;
+        }
+        final T created = (T) create(manipulatorStats, immutableClass, arguments);
+        manipulatorCache.put(key, created);
+        return created;
     }
 
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final boolean hasExtraArgs = extraArgs != null && extraArgs.length != 0;
+        final Object[] arguments = hasExtraArgs ? new Object[] {usedKey, defaultArg, arg, extraArgs} : new Object[] {usedKey, defaultArg, arg};
+        if (!hasExtraArgs && InternTable.isInternable(arg)) {
+            final CacheKey tableKey = new CacheKey(valueClass, new Object[] {usedKey, defaultArg});
+            final InternTable table = internTables.computeIfAbsent(tableKey, key -> new InternTable());
+            final AtomicReferenceArray<Object> slots = table.getSlots(arg);
+            if (slots != null) {
+                final int index = InternTable.indexOf(arg);
+                final Object interned = slots.get(index);
+                if (interned != null) {
+                    valueStats.hits.increment();
+                    return (T) interned;
+                }
+                final T created = (T) create(valueStats, valueClass, arguments);
+                slots.set(index, created);
+                return created;
+            }
+        }
+        final CacheKey key = new CacheKey(valueClass, arguments);
+        final ImmutableValue<?> cached = valueCache.getIfPresent(key);
+        if (cached != null) {
+            valueStats.hits.increment();
+            return (T) cached;
+        }
+        final T created = (T) create(valueStats, valueClass, arguments);
+        valueCache.put(key, created);
+        return created;
+    }
+
+    /**
+     * Gets the hit and miss counters of the manipulator cache.
+     *
+     * @return The manipulator cache stats
+     */
+    public static Stats getManipulatorStats() {
+        return manipulatorStats;
+    }
+
+    /**
+     * Gets the hit and miss counters of the value cache.
+     *
+     * @return The value cache stats
+     */
+    public static Stats getValueStats() {
+        return valueStats;
+    }
+
+    private static Object create(Stats stats, Class<?> type, Object[] args) {
+        final long start = System.nanoTime();
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
-        } catch (ExecutionException e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+            return getFactory(type, args).create(args);
+        } catch (Throwable e) {
+            SpongeImpl.getLogger().error("Could not construct an instance of " + type.getCanonicalName() + " with the args: "
+                                         + Arrays.deepToString(args), e);
+            throw new UnsupportedOperationException("Could not construct an instance of " + type.getName() + " with the args: "
+                                                    + Arrays.deepToString(args), e);
+        } finally {
+            stats.misses.increment();
+            stats.missTime.add(System.nanoTime() - start);
+        }
+    }
+
+    private static Factory getFactory(Class<?> type, Object[] args) {
+        final Class<?>[] signature = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            signature[i] = args[i] == null ? null : args[i].getClass();
+        }
+        return factories.computeIfAbsent(new CacheKey(type, signature), key -> createFactory(type, args));
+    }
+
+    private static Factory createFactory(Class<?> type, Object[] args) {
+        final Constructor<?> constructor = ReflectionUtil.findConstructor(type, args);
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not access the constructor of " + type.getName(), e);
+        }
+        if (constructor.getParameterCount() != args.length) {
+            // The constructor was found with nested argument arrays flattened
+            return arguments -> (Object) handle.invokeExact(ReflectionUtil.deconstructArray(arguments).toArray());
+        }
+        return arguments -> (Object) handle.invokeExact(arguments);
+    }
+
+    @FunctionalInterface
+    private interface Factory {
+
+        Object create(Object[] args) throws Throwable;
+
+    }
+
+    /**
+     * Hit and miss counters of a cache, to tune the cache limits with.
+     */
+    public static final class Stats {
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder missTime = new LongAdder();
+
+        Stats() {
+        }
+
+        public long getHits() {
+            return this.hits.sum();
+        }
+
+        public long getMisses() {
+            return this.misses.sum();
+        }
+
+        public double getHitRate() {
+            final long hits = this.hits.sum();
+            final long total = hits + this.misses.sum();
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        /**
+         * Gets the average time it took to construct an instance on a miss.
+         *
+         * @return The average miss cost in nanoseconds
+         */
+        public double getAverageMissTime() {
+            final long misses = this.misses.sum();
+            return misses == 0 ? 0 : (double) this.missTime.sum() / misses;
+        }
+
+    }
+
+    private static final class CacheKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hashCode;
+
+        CacheKey(Class<?> type, Object[] args) {
+            this.type = type;
+            this.args = args;
+            this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(args);
         }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode && this.type == other.type && Arrays.deepEquals(this.args, other.args);
+        }
+
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    private static final class InternTable {
+
+        private final AtomicReferenceArray<Object> booleans = new AtomicReferenceArray<>(2);
+        @Nullable private volatile AtomicReferenceArray<Object> ints;
+        @Nullable private volatile Class<?> enumClass;
+        @Nullable private volatile AtomicReferenceArray<Object> enums;
+
+        static boolean isInternable(@Nullable Object arg) {
+            if (arg instanceof Integer) {
+                final int value = (Integer) arg;
+                return value >= 0 && value < INTERNED_INT_LIMIT;
+            }
+            return arg instanceof Boolean || arg instanceof Enum;
+        }
+
+        static int indexOf(Object arg) {
+            if (arg instanceof Boolean) {
+                return (Boolean) arg ? 1 : 0;
+            } else if (arg instanceof Integer) {
+                return (Integer) arg;
+            }
+            return ((Enum<?>) arg).ordinal();
+        }
+
+        @Nullable
+        AtomicReferenceArray<Object> getSlots(@Nullable Object arg) {
+            if (arg instanceof Boolean) {
+                return this.booleans;
+            } else if (arg instanceof Integer) {
+                final int value = (Integer) arg;
+                if (value < 0 || value >= INTERNED_INT_LIMIT) {
+                    return null;
+                }
+                AtomicReferenceArray<Object> ints = this.ints;
+                if (ints == null) {
+                    synchronized (this) {
+                        if (this.ints == null) {
+                            this.ints = new AtomicReferenceArray<>(INTERNED_INT_LIMIT);
+                        }
+                        ints = this.ints;
+                    }
+                }
+                return ints;
+            } else if (arg instanceof Enum) {
+                final Class<?> argClass = ((Enum<?>) arg).getDeclaringClass();
+                AtomicReferenceArray<Object> enums = this.enums;
+                if (enums == null) {
+                    synchronized (this) {
+                        if (this.enums == null) {
+                            this.enumClass = argClass;
+                            this.enums = new AtomicReferenceArray<>(argClass.getEnumConstants().length);
+                        }
+                        enums = this.enums;
+                    }
+                }
+                // Only one enum type per table, others go through the cache
+                return this.enumClass == argClass ? enums : null;
             }
+            return null;
         }
-        return builder.toString();
+
     }
 }
@@ -48,6 +48,7 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NbtTranslator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -244,19 +245,17 @@ public DataView set(DataQuery path, Object value) {
         List<String> parts = path.getParts();
         String key = parts.get(0);
         if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
-            } else {
-                subView = subViewOptional.get();
+            DataView subView = this.getWritableView(key);
+            if (subView == null) {
+                subView = this.createView(of(key));
             }
             subView.set(path.popFirst(), value);
             return this;
         }
-        if (value instanceof DataView) {
+        if (value instanceof NbtDataView && !((NbtDataView) value).isCopied()) {
+            // Read-only, so it can be shared until something is written below it
+            this.map.put(key, ((NbtDataView) value).asChildOf(this, of(key)));
+        } else if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
@@ -311,6 +310,28 @@ public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
         return set(checkNotNull(key, "Key was null!").getQuery(), value);
     }
 
+    /**
+     * Puts a value that is already in its serialized form, a boxed primitive,
+     * a {@link String}, a primitive array or an {@link ImmutableList} of
+     * those, directly under the given key. This skips the translator and
+     * collection handling of {@link #set(DataQuery, Object)} for readers that
+     * already produce final values.
+     *
+     * @param key The single key to put the value at
+     * @param value The serialized value
+     * @return This view, for chaining
+     */
+    public DataView setSerialized(String key, Object value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        if (value.getClass().isArray() && this.safety != SafetyMode.NO_DATA_CLONED) {
+            // Let set take care of the copy
+            return set(of(key), value);
+        }
+        this.map.put(key, value);
+        return this;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(String key, Collection<?> value) {
         ImmutableList.Builder<Object> builder = ImmutableList.builder();
@@ -414,13 +435,10 @@ public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
         if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
+            DataView subView = this.getWritableView(parts.get(0));
+            if (subView == null) {
                 return this;
             }
-            DataView subView = subViewOptional.get();
             subView.remove(path.popFirst());
         } else {
             this.map.remove(parts.get(0));
@@ -446,7 +464,7 @@ public DataView createView(DataQuery path) {
             return result;
         }
         DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
+        DataView subView = this.getWritableView(key);
         if (subView == null) {
             subView = new MemoryDataView(this.parent, keyQuery, this.safety);
             this.map.put(key, subView);
@@ -520,6 +538,19 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
+    @Nullable
+    DataView getWritableView(String key) {
+        final Object object = this.map.get(key);
+        if (object instanceof NbtDataView) {
+            // Copy shared read-only views on the first write below them
+            final DataView view = this.createView(of(key));
+            NbtTranslator.getInstance().addTo(((NbtDataView) object).compound, view);
+            ((NbtDataView) object).copiedTo(view);
+            return view;
+        }
+        return object instanceof DataView ? (DataView) object : null;
+    }
+
     private Optional<DataView> getUnsafeView(String path) {
         final Object object = this.map.get(path);
         if (!(object instanceof DataView)) {
@@ -0,0 +1,630 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} backed directly by an {@link NBTTagCompound}. Values
+ * are only converted when they are read and child views are created on
+ * demand, so handing one out does not copy the compound. The backing
+ * compound is never modified, and must not be modified while the view is
+ * in use.
+ *
+ * <p>When set on a {@link MemoryDataView} the view is shared rather than
+ * copied. The first write to it, or below it, copies it into a writable
+ * view of the parent, which this view delegates to from then on. Root
+ * containers have no parent to copy into and stay read-only.</p>
+ */
+public class NbtDataView implements DataView {
+
+    final NBTTagCompound compound;
+    @Nullable private final DataView parent;
+    private final DataQuery path;
+    // The writable copy in the parent, once something was written
+    @Nullable private DataView writable;
+
+    NbtDataView(NBTTagCompound compound) {
+        checkState(this instanceof DataContainer, "Cannot construct a root NbtDataView without a container!");
+        this.compound = checkNotNull(compound, "compound");
+        this.parent = null;
+        this.path = of();
+    }
+
+    NbtDataView(DataView parent, DataQuery path, NBTTagCompound compound) {
+        checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.compound = checkNotNull(compound, "compound");
+        this.parent = parent;
+        this.path = parent.getCurrentPath().then(path);
+    }
+
+    /**
+     * Gets the compound backing this view. It must not be modified.
+     *
+     * @return The backing compound
+     */
+    public NBTTagCompound getCompound() {
+        return this.compound;
+    }
+
+    NbtDataView asChildOf(DataView parent, DataQuery path) {
+        return new NbtDataView(parent, path, this.compound);
+    }
+
+    /**
+     * Gets whether this view was copied into a writable view, after which
+     * the backing compound no longer reflects its contents.
+     *
+     * @return Whether this view was copied
+     */
+    public boolean isCopied() {
+        return this.writable != null;
+    }
+
+    void copiedTo(DataView view) {
+        this.writable = view;
+    }
+
+    private DataView getWritable() {
+        if (this.writable == null) {
+            final DataView parent = this.parent instanceof NbtDataView ? ((NbtDataView) this.parent).getWritable() : this.parent;
+            if (!(parent instanceof MemoryDataView)) {
+                throw new UnsupportedOperationException("NBT backed data views are read-only");
+            }
+            final DataView view = ((MemoryDataView) parent).getWritableView(getName());
+            if (view == null) {
+                throw new IllegalStateException("The view at " + this.path + " was removed from its parent");
+            }
+            this.writable = view;
+        }
+        return this.writable;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.parent == null ? (DataContainer) this : this.parent.getContainer();
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        final List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        if (this.writable != null) {
+            return this.writable.getKeys(deep);
+        }
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (String key : this.compound.getKeySet()) {
+            final NBTBase base = this.compound.getTag(key);
+            final DataQuery query = of(toKey(key, base));
+            builder.add(query);
+            if (deep && base instanceof NBTTagCompound) {
+                for (DataQuery inner : new NbtDataView(this, query, (NBTTagCompound) base).getKeys(true)) {
+                    builder.add(query.then(inner));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        if (this.writable != null) {
+            return this.writable.getValues(deep);
+        }
+        final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            final Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        if (this.writable != null) {
+            return this.writable.contains(path);
+        }
+        final List<String> parts = path.getParts();
+        NBTTagCompound current = this.compound;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final NBTBase base = current.getTag(parts.get(i));
+            if (!(base instanceof NBTTagCompound)) {
+                return false;
+            }
+            current = (NBTTagCompound) base;
+        }
+        final String key = parts.get(parts.size() - 1);
+        return current.hasKey(key) || current.hasKey(key + NbtTranslator.BOOLEAN_IDENTIFER, NbtDataUtil.TAG_BYTE);
+    }
+
+    @Override
+    public boolean contains(DataQuery path, DataQuery... paths) {
+        checkNotNull(path, "DataQuery cannot be null!");
+        checkNotNull(paths, "DataQuery varargs cannot be null!");
+        if (!contains(path)) {
+            return false;
+        }
+        for (DataQuery query : paths) {
+            if (!contains(checkNotNull(query, "No null queries!"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        if (this.writable != null) {
+            return this.writable.get(path);
+        }
+        final List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        NbtDataView view = this;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final NBTBase base = view.compound.getTag(parts.get(i));
+            if (!(base instanceof NBTTagCompound)) {
+                return Optional.empty();
+            }
+            view = new NbtDataView(view, of(parts.get(i)), (NBTTagCompound) base);
+        }
+        return Optional.ofNullable(view.getValue(parts.get(parts.size() - 1)));
+    }
+
+    @Nullable
+    private Object getValue(String key) {
+        final NBTBase base = this.compound.getTag(key);
+        if (base == null) {
+            final NBTBase flag = this.compound.getTag(key + NbtTranslator.BOOLEAN_IDENTIFER);
+            return flag instanceof NBTTagByte ? ((NBTTagByte) flag).getByte() != 0 : null;
+        }
+        if (base instanceof NBTTagCompound) {
+            return new NbtDataView(this, of(key), (NBTTagCompound) base);
+        }
+        return fromTag(base);
+    }
+
+    private static String toKey(String key, NBTBase base) {
+        if (base.getId() == NbtDataUtil.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+            return key.replace(NbtTranslator.BOOLEAN_IDENTIFER, "");
+        }
+        return key;
+    }
+
+    private static Object fromTag(NBTBase base) {
+        switch (base.getId()) {
+            case NbtDataUtil.TAG_BYTE:
+                return ((NBTTagByte) base).getByte();
+            case NbtDataUtil.TAG_SHORT:
+                return ((NBTTagShort) base).getShort();
+            case NbtDataUtil.TAG_INT:
+                return ((NBTTagInt) base).getInt();
+            case NbtDataUtil.TAG_LONG:
+                return ((NBTTagLong) base).getLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return ((NBTTagFloat) base).getFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return ((NBTTagDouble) base).getDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                // Arrays are the only mutable values, never hand out the backing ones
+                return ((NBTTagByteArray) base).getByteArray().clone();
+            case NbtDataUtil.TAG_STRING:
+                return ((NBTTagString) base).getString();
+            case NbtDataUtil.TAG_LIST:
+                final NBTTagList list = (NBTTagList) base;
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                for (int i = 0; i < list.tagCount(); i++) {
+                    builder.add(fromTag(list.get(i)));
+                }
+                return builder.build();
+            case NbtDataUtil.TAG_COMPOUND:
+                return new NbtDataContainer((NBTTagCompound) base);
+            case NbtDataUtil.TAG_INT_ARRAY:
+                return ((NBTTagIntArray) base).getIntArray().clone();
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + base.getId());
+        }
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        getWritable().set(path, value);
+        return this;
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        getWritable().set(key, value);
+        return this;
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        getWritable().remove(path);
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        return getWritable().createView(path);
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        return getWritable().createView(path, map);
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        return get(path).filter(obj -> obj instanceof DataView).map(obj -> (Map<?, ?>) toMapping(obj));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object toMapping(Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), toMapping(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), toMapping(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object entry : (Collection) object) {
+                builder.add(toMapping(entry));
+            }
+            return builder.build();
+        }
+        return object;
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        return get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Byte> getByte(DataQuery path) {
+        return get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Short> getShort(DataQuery path) {
+        return get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        return get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        return get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(DataQuery path) {
+        return get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        return get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        return get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        return getUnsafeList(path).map(Lists::newArrayList);
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        return get(path)
+                .filter(obj -> obj instanceof List<?> || obj instanceof Object[])
+                .map(obj -> obj instanceof List<?> ? (List<?>) obj : Arrays.asList((Object[]) obj));
+    }
+
+    private <T> Optional<List<T>> getCoercedList(DataQuery path, Function<Object, Optional<T>> coercer) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(coercer)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        return getCoercedList(path, Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        return getCoercedList(path, Coerce::asChar);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        return getCoercedList(path, Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        return getCoercedList(path, Coerce::asByte);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        return getCoercedList(path, Coerce::asShort);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        return getCoercedList(path, Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        return getCoercedList(path, Coerce::asLong);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        return getCoercedList(path, Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        return getCoercedList(path, Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        return getCoercedList(path, obj -> obj instanceof DataView ? Optional.of((Map<?, ?>) toMapping(obj)) : Optional.empty());
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        return getCoercedList(path, obj -> obj instanceof DataView ? Optional.of((DataView) obj) : Optional.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        if (clazz.isAssignableFrom(CatalogType.class)) {
+            final Optional<T> catalog = (Optional<T>) getCatalogType(path, ((Class<? extends CatalogType>) clazz));
+            if (catalog.isPresent()) {
+                return catalog;
+            }
+        }
+        return getView(path).flatMap(view -> Sponge.getDataManager().getBuilder(clazz).flatMap(builder -> builder.build(view)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        if (clazz.isAssignableFrom(CatalogType.class)) {
+            final Optional<List<T>> catalogs = (Optional<List<T>>) (Optional<?>) getCatalogTypeList(path, (Class<? extends CatalogType>) clazz);
+            if (catalogs.isPresent()) {
+                return catalogs;
+            }
+        }
+        return getViewList(path).flatMap(list ->
+                Sponge.getDataManager().getBuilder(clazz).map(builder ->
+                        list.stream()
+                                .map(builder::build)
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                                .collect(Collectors.toList())
+                )
+        );
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<T> getCatalogType(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "dummy type");
+        return getString(path).flatMap(string -> Sponge.getRegistry().getType(catalogType, string));
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<List<T>> getCatalogTypeList(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "catalogType");
+        return getStringList(path).map(list ->
+                list.stream()
+                        .map(string -> Sponge.getRegistry().getType(catalogType, string))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public <T> Optional<T> getObject(DataQuery path, Class<T> objectClass) {
+        return getView(path).flatMap(view ->
+                Sponge.getDataManager().getTranslator(objectClass)
+                        .flatMap(serializer -> Optional.of(serializer.translate(view)))
+        );
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass) {
+        return getViewList(path).flatMap(viewList ->
+                Sponge.getDataManager().getTranslator(objectClass).map(serializer ->
+                        viewList.stream()
+                                .map(serializer::translate)
+                                .collect(Collectors.toList())
+                )
+        );
+    }
+
+    @Override
+    public DataContainer copy() {
+        return copy(getSafetyMode());
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        if (this.writable != null) {
+            return this.writable.copy(safety);
+        }
+        final DataContainer container = new MemoryDataContainer(safety);
+        NbtTranslator.getInstance().addTo(this.compound, container);
+        return container;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.writable != null ? this.writable.isEmpty() : this.compound.hasNoTags();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        // Every read converts the value again, nothing is shared
+        return SafetyMode.ALL_DATA_CLONED;
+    }
+
+    @Override
+    public int hashCode() {
+        if (this.writable != null) {
+            return this.writable.hashCode();
+        }
+        return Objects.hashCode(this.compound, this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (this.writable != null) {
+            return this.writable.equals(obj);
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final NbtDataView other = (NbtDataView) obj;
+        return Objects.equal(this.compound, other.compound)
+               && Objects.equal(this.path, other.path);
+    }
+
+    @Override
+    public String toString() {
+        if (this.writable != null) {
+            return this.writable.toString();
+        }
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        return helper.add("compound", this.compound).toString();
+    }
+}
@@ -63,6 +63,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
@@ -84,6 +85,18 @@ public static SpongeManipulatorRegistry getInstance() {
     private ImmutableTable<Class<? extends DataManipulator<?, ?>>, NbtDataType, NbtDataProcessor<?, ?>> nbtProcessorTable = ImmutableTable.of();
     private ImmutableTable<Key<?>, NbtDataType, NbtValueProcessor<?, ?>> nbtValueTable = ImmutableTable.of();
     private final Map<Key<? extends BaseValue<?>>, ValueProcessorDelegate<?, ?>> valueDelegates = new IdentityHashMap<>();
+    private final ClassValue<ImmutableSet<Key<?>>> keysByContainerClass = new ClassValue<ImmutableSet<Key<?>>>() {
+        @Override
+        protected ImmutableSet<Key<?>> computeValue(Class<?> type) {
+            final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+            SpongeManipulatorRegistry.this.valueDelegates.forEach((key, delegate) -> {
+                if (!delegate.resolve(type).isEmpty()) {
+                    builder.add(key);
+                }
+            });
+            return builder.build();
+        }
+    };
 
     // This will be replaced with an immutable variant on #bake()
     private Multimap<PluginContainer, DataRegistration<?, ?>> pluginBasedRegistrations = ImmutableMultimap.of();
@@ -282,6 +295,46 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
         return this.valueDelegates.get(key);
     }
 
+    /**
+     * Gets the {@link ValueProcessor} for the given {@link Key}, narrowed down
+     * to the processors that could support instances of the given container
+     * class. The narrowed tables are built lazily per class and are discarded
+     * along with the delegates whenever processors are registered.
+     *
+     * @param key The key
+     * @param containerClass The class of the value container
+     * @return The resolved processor, or null if the key has no processors
+     */
+    @Nullable
+    public ValueProcessor<?, ?> getDelegate(Key<?> key, Class<?> containerClass) {
+        if (this.tempRegistry != null) {
+            return getDelegate(key);
+        }
+        final ValueProcessorDelegate<?, ?> delegate = this.valueDelegates.get(key);
+        return delegate == null ? null : delegate.resolve(containerClass);
+    }
+
+    /**
+     * Gets the {@link Key}s that have at least one {@link ValueProcessor}
+     * which could support instances of the given container class. The set
+     * is computed once per class after registrations are complete.
+     *
+     * @param containerClass The class of the value container
+     * @return The candidate keys
+     */
+    public Set<Key<?>> getKeys(Class<?> containerClass) {
+        if (this.tempRegistry != null) {
+            final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+            this.tempRegistry.valueProcessorMap.forEach((key, processors) -> {
+                if (processors.stream().anyMatch(processor -> processor.supports(containerClass))) {
+                    builder.add(key);
+                }
+            });
+            return builder.build();
+        }
+        return this.keysByContainerClass.get(containerClass);
+    }
+
     @Nullable
     public NbtDataProcessor<?, ?> getNbtDelegate(NbtDataType dataType, Class<?> manipulatorClass) {
         return this.nbtProcessorTable.get(dataType, manipulatorClass);
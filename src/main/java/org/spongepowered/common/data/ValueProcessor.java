@@ -139,6 +139,20 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if instances of the provided {@link ValueContainer} type could
+     * be supported by this {@link ValueProcessor} at all. This is used to
+     * narrow down the processors worth asking for a given container class,
+     * so it may only rule out types that can never be supported, the
+     * per-instance check remains {@link #supports(ValueContainer)}.
+     *
+     * @param containerClass The value container class to check
+     * @return False if no instance of the class can be supported
+     */
+    default boolean supports(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -71,7 +71,7 @@ public static DataTransactionResult apply(NBTTagCompound compound, DataManipulat
                 final String clazzName = dataCompound.getString(NbtDataUtil.CUSTOM_DATA_CLASS);
                 if (manipulator.getClass().getName().equals(clazzName)) {
                     final NBTTagCompound current = dataCompound.getCompoundTag(NbtDataUtil.CUSTOM_DATA);
-                    final DataContainer currentView = NbtTranslator.getInstance().translate(current);
+                    final DataContainer currentView = NbtTranslator.getInstance().translateLazily(current);
                     DataManipulator<?, ?> existing = deserialize(clazzName, currentView);
                     isReplacing = existing != null;
                     final DataContainer container = manipulator.toContainer();
@@ -161,7 +161,7 @@ public static DataTransactionResult remove(NBTTagCompound data, Class<? extends
             final String dataClass = dataCompound.getString(NbtDataUtil.CUSTOM_DATA_CLASS);
             if (containerClass.getName().equals(dataClass)) {
                 final NBTTagCompound current = dataCompound.getCompoundTag(NbtDataUtil.CUSTOM_DATA);
-                final DataContainer currentView = NbtTranslator.getInstance().translate(current);
+                final DataContainer currentView = NbtTranslator.getInstance().translateLazily(current);
                 DataManipulator<?, ?> existing = deserialize(dataClass, currentView);
                 isRemoving = existing != null;
                 dataList.removeTag(i);
@@ -200,7 +200,7 @@ public static void readCustomData(NBTTagCompound compound, DataHolder dataHolder
                 if (list != null && list.tagCount() != 0) {
                     for (int i = 0; i < list.tagCount(); i++) {
                         final NBTTagCompound internal = list.getCompoundTagAt(i);
-                        builder.add(NbtTranslator.getInstance().translateFrom(internal));
+                        builder.add(NbtTranslator.getInstance().translateLazily(internal.copy()));
                     }
                 }
                 try {
@@ -222,7 +222,7 @@ public static void readCustomData(NBTTagCompound compound, DataHolder dataHolder
                 if (list != null && list.tagCount() != 0) {
                     for (int i = 0; i < list.tagCount(); i++) {
                         final NBTTagCompound internal = list.getCompoundTagAt(i);
-                        builder.add(NbtTranslator.getInstance().translateFrom(internal));
+                        builder.add(NbtTranslator.getInstance().translateLazily(internal.copy()));
                     }
                 }
                 // Re-attempt to deserialize custom data
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.data.NbtDataView;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates between {@link NBTTagCompound}s and {@link DataView}s in a
+ * single pass. Each key of the source is visited once and written straight
+ * to the target, without building an intermediate map of the values first.
+ * {@link MemoryDataView}s are filled directly with their serialized values.
+ */
+final class NbtStreamTranslator {
+
+    private NbtStreamTranslator() {
+    }
+
+    static void writeView(DataView view, NBTTagCompound compound) {
+        if (view instanceof NbtDataView && !((NbtDataView) view).isCopied()) {
+            // Already backed by nbt, the compound only needs to be copied
+            final NBTTagCompound source = ((NbtDataView) view).getCompound();
+            for (String key : source.getKeySet()) {
+                compound.setTag(key, source.getTag(key).copy());
+            }
+            return;
+        }
+        for (DataQuery query : view.getKeys(false)) {
+            final Object value = view.get(query).get();
+            final String key = query.asString('.');
+            if (value instanceof Boolean) {
+                compound.setByte(key + NbtTranslator.BOOLEAN_IDENTIFER, (Boolean) value ? (byte) 1 : 0);
+            } else {
+                compound.setTag(key, writeValue(value));
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static NBTBase writeValue(Object value) {
+        // Most common types first
+        if (value instanceof Integer) {
+            return new NBTTagInt((Integer) value);
+        } else if (value instanceof String) {
+            return new NBTTagString((String) value);
+        } else if (value instanceof DataView) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            writeView((DataView) value, compound);
+            return compound;
+        } else if (value instanceof Byte) {
+            return new NBTTagByte((Byte) value);
+        } else if (value instanceof Short) {
+            return new NBTTagShort((Short) value);
+        } else if (value instanceof Long) {
+            return new NBTTagLong((Long) value);
+        } else if (value instanceof Float) {
+            return new NBTTagFloat((Float) value);
+        } else if (value instanceof Double) {
+            return new NBTTagDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            return new NBTTagByte((Boolean) value ? (byte) 1 : 0);
+        } else if (value instanceof List) {
+            final NBTTagList list = new NBTTagList();
+            for (Object object : (List) value) {
+                list.appendTag(writeValue(object));
+            }
+            return list;
+        } else if (value instanceof byte[]) {
+            return new NBTTagByteArray((byte[]) value);
+        } else if (value instanceof int[]) {
+            return new NBTTagIntArray((int[]) value);
+        } else if (value instanceof Byte[]) {
+            final Byte[] boxed = (Byte[]) value;
+            final byte[] array = new byte[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                array[i] = boxed[i];
+            }
+            return new NBTTagByteArray(array);
+        } else if (value instanceof Integer[]) {
+            final Integer[] boxed = (Integer[]) value;
+            final int[] array = new int[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                array[i] = boxed[i];
+            }
+            return new NBTTagIntArray(array);
+        } else if (value instanceof Map) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                final Object key = entry.getKey();
+                final String name = key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString();
+                if (entry.getValue() instanceof Boolean && key instanceof DataQuery) {
+                    compound.setBoolean(name + NbtTranslator.BOOLEAN_IDENTIFER, (Boolean) entry.getValue());
+                } else {
+                    compound.setTag(name, writeValue(entry.getValue()));
+                }
+            }
+            return compound;
+        } else if (value instanceof DataSerializable) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            writeView(((DataSerializable) value).toContainer(), compound);
+            return compound;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    static void readCompound(NBTTagCompound compound, DataView view) {
+        if (view instanceof MemoryDataView) {
+            readCompound(compound, (MemoryDataView) view);
+            return;
+        }
+        for (String key : compound.getKeySet()) {
+            final NBTBase base = compound.getTag(key);
+            final byte type = base.getId();
+            if (type == NbtDataUtil.TAG_COMPOUND) {
+                readCompound((NBTTagCompound) base, view.createView(of(key)));
+            } else if (type == NbtDataUtil.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                view.set(of(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, "")), ((NBTTagByte) base).getByte() != 0);
+            } else {
+                view.set(of(key), readValue(base, type, view.getSafetyMode()));
+            }
+        }
+    }
+
+    private static void readCompound(NBTTagCompound compound, MemoryDataView view) {
+        for (String key : compound.getKeySet()) {
+            final NBTBase base = compound.getTag(key);
+            final byte type = base.getId();
+            if (type == NbtDataUtil.TAG_COMPOUND) {
+                // Filled in place, no container is built and copied over
+                readCompound((NBTTagCompound) base, (MemoryDataView) view.createView(of(key)));
+            } else if (type == NbtDataUtil.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                view.setSerialized(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, ""), ((NBTTagByte) base).getByte() != 0);
+            } else {
+                view.setSerialized(key, readValue(base, type, view.getSafetyMode()));
+            }
+        }
+    }
+
+    private static Object readValue(NBTBase base, byte type, DataView.SafetyMode safety) {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return ((NBTTagByte) base).getByte();
+            case NbtDataUtil.TAG_SHORT:
+                return ((NBTTagShort) base).getShort();
+            case NbtDataUtil.TAG_INT:
+                return ((NBTTagInt) base).getInt();
+            case NbtDataUtil.TAG_LONG:
+                return ((NBTTagLong) base).getLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return ((NBTTagFloat) base).getFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return ((NBTTagDouble) base).getDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                return ((NBTTagByteArray) base).getByteArray();
+            case NbtDataUtil.TAG_STRING:
+                return ((NBTTagString) base).getString();
+            case NbtDataUtil.TAG_LIST:
+                final NBTTagList list = (NBTTagList) base;
+                final byte listType = (byte) list.getTagType();
+                final int count = list.tagCount();
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                for (int i = 0; i < count; i++) {
+                    builder.add(readValue(list.get(i), listType, safety));
+                }
+                return builder.build();
+            case NbtDataUtil.TAG_COMPOUND:
+                final MemoryDataContainer container = new MemoryDataContainer(safety);
+                readCompound((NBTTagCompound) base, (MemoryDataView) container);
+                return container;
+            case NbtDataUtil.TAG_INT_ARRAY:
+                return ((NBTTagIntArray) base).getIntArray();
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + type);
+        }
+    }
+
+}
@@ -151,6 +151,11 @@ public final boolean supports(ValueContainer<?> container) {
         return this.holderClass.isInstance(container) && supports((Holder) container);
     }
 
+    @Override
+    public final boolean supports(Class<?> containerClass) {
+        return this.holderClass.isAssignableFrom(containerClass);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final Optional<T> getValueFromContainer(ValueContainer<?> container) {
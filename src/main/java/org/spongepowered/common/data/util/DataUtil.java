@@ -49,6 +49,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.DataProcessor;
+import org.spongepowered.common.data.NbtDataView;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.SpongeManipulatorRegistry;
 import org.spongepowered.common.data.ValueProcessor;
@@ -200,7 +201,8 @@ private static DataView updateDataViewForDataManipulator(DataView dataView) {
             final DataContentUpdater contentUpdater = SpongeDataManager.getInstance()
                 .getWrappedContentUpdater(DataManipulator.class, version, DataVersions.Data.CURRENT_CUSTOM_DATA)
                 .orElseThrow(() -> new IllegalArgumentException("Could not find a content updater for DataManipulator information with version: " + version));
-            return contentUpdater.update(dataView);
+            // Updaters modify the view, read-only nbt views have to be copied first
+            return contentUpdater.update(dataView instanceof NbtDataView ? dataView.copy() : dataView);
         }
         return dataView;
     }
@@ -381,6 +383,20 @@ public static <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValu
         return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) SpongeManipulatorRegistry.getInstance().getDelegate(key));
     }
 
+    public static <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValueProcessor(Key<V> key, Class<?> containerClass) {
+        return Optional.ofNullable((ValueProcessor<E, V>) SpongeManipulatorRegistry.getInstance().getDelegate(key, containerClass));
+    }
+
+    public static Optional<ValueProcessor<?, ?>> getWildValueProcessor(Key<?> key, Class<?> containerClass) {
+        return Optional.ofNullable(SpongeManipulatorRegistry.getInstance().getDelegate(key, containerClass));
+    }
+
+    public static <E> Optional<ValueProcessor<E, ? extends BaseValue<E>>> getBaseValueProcessor(Key<? extends BaseValue<E>> key,
+            Class<?> containerClass) {
+        return Optional.ofNullable(
+                (ValueProcessor<E, ? extends BaseValue<E>>) SpongeManipulatorRegistry.getInstance().getDelegate(key, containerClass));
+    }
+
     public static RawDataValidator getValidators(ValidationType validationType) {
 
         return new DelegateDataValidator(ImmutableList.of(), validationType);
@@ -45,12 +45,49 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final ClassValue<ValueProcessorDelegate<E, V>> resolved = new ClassValue<ValueProcessorDelegate<E, V>>() {
+        @Override
+        protected ValueProcessorDelegate<E, V> computeValue(Class<?> type) {
+            final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+            for (ValueProcessor<E, V> processor : ValueProcessorDelegate.this.processors) {
+                if (processor.supports(type)) {
+                    builder.add(processor);
+                }
+            }
+            final ImmutableList<ValueProcessor<E, V>> candidates = builder.build();
+            if (candidates.size() == ValueProcessorDelegate.this.processors.size()) {
+                return ValueProcessorDelegate.this;
+            }
+            return new ValueProcessorDelegate<>(ValueProcessorDelegate.this.key, candidates);
+        }
+    };
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    /**
+     * Gets a delegate that only consults the processors that could support
+     * instances of the given container class, in the same order. The result
+     * is computed once per class and kept for the lifetime of this delegate.
+     *
+     * @param containerClass The class of the value container
+     * @return The delegate restricted to the candidate processors
+     */
+    public ValueProcessorDelegate<E, V> resolve(Class<?> containerClass) {
+        return this.resolved.get(containerClass);
+    }
+
+    /**
+     * Gets whether this delegate has no processors to consult.
+     *
+     * @return True if there are no processors
+     */
+    public boolean isEmpty() {
+        return this.processors.isEmpty();
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
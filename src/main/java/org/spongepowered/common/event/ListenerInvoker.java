@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.event.tracking.CauseTracker;
+
+/**
+ * Calls all the baked listeners of a single event type in order.
+ *
+ * <p>Implementations are usually generated by the
+ * {@link ListenerInvokerFactory}, which unrolls the listener loop into
+ * direct calls on the concrete listener classes.</p>
+ */
+public abstract class ListenerInvoker {
+
+    private final Logger logger;
+    protected final RegisteredListener<?>[] listeners;
+
+    protected ListenerInvoker(Logger logger, RegisteredListener<?>[] listeners) {
+        this.logger = checkNotNull(logger, "logger");
+        this.listeners = checkNotNull(listeners, "listeners");
+    }
+
+    /**
+     * Passes the event to every listener of this invoker.
+     *
+     * @param event The event
+     */
+    public abstract void invoke(Event event);
+
+    protected final void preHandle(Event event, RegisteredListener<?> listener) {
+        CauseTracker.getInstance().getCurrentContext().activeContainer(listener.getPlugin());
+        listener.getTimingsHandler().startTimingIfSync();
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = listener.getOrder();
+        }
+    }
+
+    protected final void handleError(Event event, RegisteredListener<?> listener, Throwable e) {
+        this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), e);
+    }
+
+    protected final void postHandle(RegisteredListener<?> listener) {
+        listener.getTimingsHandler().stopTimingIfSync();
+        CauseTracker.getInstance().getCurrentContext().activeContainer(null);
+    }
+
+    /**
+     * The fallback invoker which loops over the listeners, used when no
+     * class could be generated for them.
+     */
+    static final class Looping extends ListenerInvoker {
+
+        Looping(Logger logger, RegisteredListener<?>[] listeners) {
+            super(logger, listeners);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public void invoke(Event event) {
+            for (RegisteredListener listener : this.listeners) {
+                preHandle(event, listener);
+                try {
+                    listener.handle(event);
+                } catch (Throwable e) {
+                    handleError(event, listener, e);
+                }
+                postHandle(listener);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.logging.log4j.Logger;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a {@link ListenerInvoker} for the baked listeners of an event
+ * type. The generated class holds every listener in a field typed as its
+ * concrete class whenever possible, so each call site in the unrolled
+ * {@link ListenerInvoker#invoke(Event)} stays monomorphic.
+ *
+ * <p>Generated classes only depend on the listener classes, so they are
+ * shared between all event types with the same listener layout.</p>
+ */
+public final class ListenerInvokerFactory {
+
+    /**
+     * Invokers above this size would exceed the bytecode size which is
+     * still compiled by the JIT, they use the looping invoker instead.
+     */
+    private static final int MAX_GENERATED_LISTENERS = 64;
+
+    private static final String BASE_INVOKER = Type.getInternalName(ListenerInvoker.class);
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String CONSTRUCTOR_DESCRIPTOR = "(" + Type.getDescriptor(Logger.class) + "[L" + REGISTERED_LISTENER + ";)V";
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+    private static final String PRE_HANDLE_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + "L" + REGISTERED_LISTENER + ";)V";
+    private static final String HANDLE_ERROR_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + "L" + REGISTERED_LISTENER + ";"
+            + Type.getDescriptor(Throwable.class) + ")V";
+    private static final String POST_HANDLE_DESCRIPTOR = "(L" + REGISTERED_LISTENER + ";)V";
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final Map<List<Class<?>>, Class<? extends ListenerInvoker>> cache = new ConcurrentHashMap<>();
+    private final DefineableClassLoader classLoader;
+    private final Logger logger;
+
+    private final String targetPackage;
+
+    public ListenerInvokerFactory(String targetPackage, Logger logger, DefineableClassLoader classLoader) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.logger = checkNotNull(logger, "logger");
+        this.classLoader = checkNotNull(classLoader, "classLoader");
+    }
+
+    public ListenerInvoker create(RegisteredListener<?>[] listeners) {
+        if (listeners.length > MAX_GENERATED_LISTENERS) {
+            return new ListenerInvoker.Looping(this.logger, listeners);
+        }
+
+        final ImmutableList.Builder<Class<?>> layout = ImmutableList.builder();
+        for (RegisteredListener<?> listener : listeners) {
+            layout.add(getFieldType(listener.getListener()));
+        }
+
+        try {
+            return this.cache.computeIfAbsent(layout.build(), this::createClass)
+                    .getConstructor(Logger.class, RegisteredListener[].class)
+                    .newInstance(this.logger, listeners);
+        } catch (Exception e) {
+            this.logger.error("Failed to generate the listener invoker, falling back to a looping invoker", e);
+            return new ListenerInvoker.Looping(this.logger, listeners);
+        }
+    }
+
+    /**
+     * Gets the type the listener can be called through. Only classes which
+     * were generated by our class loader are known to be resolvable from the
+     * invoker, others are called through the {@link EventListener} interface.
+     */
+    private Class<?> getFieldType(EventListener<?> listener) {
+        final Class<?> type = listener.getClass();
+        if (type.getClassLoader() == this.classLoader && Modifier.isPublic(type.getModifiers()) && Modifier.isFinal(type.getModifiers())) {
+            return type;
+        }
+        return EventListener.class;
+    }
+
+    Class<? extends ListenerInvoker> createClass(List<Class<?>> layout) {
+        final String name = this.targetPackage + "ListenerInvoker_" + layout.size() + '_' + this.id.incrementAndGet();
+        return this.classLoader.defineClass(name, generateClass(name, layout));
+    }
+
+    private static byte[] generateClass(String name, List<Class<?>> layout) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_INVOKER, null);
+
+        for (int i = 0; i < layout.size(); i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, Type.getDescriptor(layout.get(i)), null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_INVOKER, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+            for (int i = 0; i < layout.size(); i++) {
+                final String fieldType = Type.getInternalName(layout.get(i));
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitMethodInsn(INVOKEVIRTUAL, REGISTERED_LISTENER, "getListener", "()L" + EVENT_LISTENER + ";", false);
+                mv.visitTypeInsn(CHECKCAST, fieldType);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, Type.getDescriptor(layout.get(i)));
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "invoke", HANDLE_METHOD_DESCRIPTOR, null, null);
+            mv.visitCode();
+            for (int i = 0; i < layout.size(); i++) {
+                final Class<?> fieldType = layout.get(i);
+                final Label start = new Label();
+                final Label end = new Label();
+                final Label handler = new Label();
+                final Label next = new Label();
+                mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+                // preHandle(event, this.listeners[i])
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                visitRegisteredListener(mv, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "preHandle", PRE_HANDLE_DESCRIPTOR, false);
+
+                // this.listener<i>.handle(event)
+                mv.visitLabel(start);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "listener" + i, Type.getDescriptor(fieldType));
+                mv.visitVarInsn(ALOAD, 1);
+                if (fieldType == EventListener.class) {
+                    mv.visitMethodInsn(INVOKEINTERFACE, EVENT_LISTENER, "handle", HANDLE_METHOD_DESCRIPTOR, true);
+                } else {
+                    mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(fieldType), "handle", HANDLE_METHOD_DESCRIPTOR, false);
+                }
+                mv.visitLabel(end);
+                mv.visitJumpInsn(GOTO, next);
+
+                // catch (Throwable e) { handleError(event, this.listeners[i], e) }
+                mv.visitLabel(handler);
+                mv.visitVarInsn(ASTORE, 2);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                visitRegisteredListener(mv, i);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "handleError", HANDLE_ERROR_DESCRIPTOR, false);
+
+                // postHandle(this.listeners[i])
+                mv.visitLabel(next);
+                mv.visitVarInsn(ALOAD, 0);
+                visitRegisteredListener(mv, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "postHandle", POST_HANDLE_DESCRIPTOR, false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void visitRegisteredListener(MethodVisitor mv, int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, BASE_INVOKER, "listeners", "[L" + REGISTERED_LISTENER + ";");
+        mv.visitLdcInsn(index);
+        mv.visitInsn(AALOAD);
+    }
+
+}
@@ -35,8 +35,14 @@
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -74,6 +80,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, getHandle().getClass().getSimpleName());
@@ -102,13 +112,21 @@ public int compareTo(RegisteredListener<?> handler) {
 
     public static final class Cache {
 
-        private final List<RegisteredListener<?>> listeners;
-        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
-
         private static final Order[] ORDERS = Order.values();
+        private static final RegisteredListener<?>[] EMPTY = new RegisteredListener<?>[0];
+
+        private final RegisteredListener<?>[] listeners;
+        private final List<RegisteredListener<?>> listenersView;
+        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        @Nullable private volatile ListenerInvoker invoker;
 
         Cache(List<RegisteredListener<?>> listeners) {
+            this(listeners.toArray(EMPTY));
+        }
+
+        private Cache(RegisteredListener<?>[] listeners) {
             this.listeners = listeners;
+            this.listenersView = Collections.unmodifiableList(Arrays.asList(listeners));
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -119,10 +137,86 @@ public static final class Cache {
             }
         }
 
-        public List<RegisteredListener<?>> getListeners() {
+        /**
+         * Creates a copy of this cache with the given, already sorted,
+         * listeners merged in. Listeners of the same {@link Order} which
+         * are already present stay in front of the new ones.
+         *
+         * @param added The sorted listeners to add
+         * @return The new cache
+         */
+        Cache with(List<RegisteredListener<?>> added) {
+            if (added.isEmpty()) {
+                return this;
+            }
+            final RegisteredListener<?>[] merged = new RegisteredListener<?>[this.listeners.length + added.size()];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < this.listeners.length && j < added.size()) {
+                if (added.get(j).compareTo(this.listeners[i]) < 0) {
+                    merged[k++] = added.get(j++);
+                } else {
+                    merged[k++] = this.listeners[i++];
+                }
+            }
+            while (i < this.listeners.length) {
+                merged[k++] = this.listeners[i++];
+            }
+            while (j < added.size()) {
+                merged[k++] = added.get(j++);
+            }
+            return new Cache(merged);
+        }
+
+        /**
+         * Creates a copy of this cache without the given listeners.
+         *
+         * @param removed The listeners to remove
+         * @return The new cache, or this cache if nothing was removed
+         */
+        Cache without(Set<RegisteredListener<?>> removed) {
+            final List<RegisteredListener<?>> remaining = new ArrayList<>(this.listeners.length);
+            for (RegisteredListener<?> listener : this.listeners) {
+                if (!removed.contains(listener)) {
+                    remaining.add(listener);
+                }
+            }
+            if (remaining.size() == this.listeners.length) {
+                return this;
+            }
+            return new Cache(remaining);
+        }
+
+        /**
+         * Gets the baked listeners as an array. The returned array is shared
+         * and must not be modified.
+         *
+         * @return The listeners, sorted by order
+         */
+        public RegisteredListener<?>[] getListenerArray() {
             return this.listeners;
         }
 
+        /**
+         * Gets the invoker which calls all the listeners of this cache,
+         * creating it on first use.
+         *
+         * @param factory The factory to create the invoker with
+         * @return The invoker
+         */
+        public ListenerInvoker getInvoker(ListenerInvokerFactory factory) {
+            ListenerInvoker invoker = this.invoker;
+            if (invoker == null) {
+                this.invoker = invoker = factory.create(this.listeners);
+            }
+            return invoker;
+        }
+
+        public List<RegisteredListener<?>> getListeners() {
+            return this.listenersView;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
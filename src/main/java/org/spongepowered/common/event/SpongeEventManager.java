@@ -27,8 +27,6 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
@@ -48,7 +46,6 @@
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.CauseTracker;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -75,46 +72,27 @@ public class SpongeEventManager implements EventManager {
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
+    private final ListenerInvokerFactory invokerFactory;
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
     private final Set<Object> registeredListeners = Sets.newHashSet();
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * The dispatch table of all the handlers for an event type for quick event
+     * posting.
+     * <p>Entries are baked lazily and are never mutated, registrations only
+     * replace the entries of the event types which are affected by the
+     * changed listeners. Writes happen while holding the {@link #lock}, reads
+     * are lock free.</p>
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build((eventClass) -> bakeHandlers(eventClass));
+    private final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150);
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
+        this.invokerFactory = new ListenerInvokerFactory("org.spongepowered.common.event.invoker", logger, this.classLoader);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
@@ -133,6 +111,20 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
         return new RegisteredListener.Cache(handlers);
     }
 
+    private RegisteredListener.Cache getHandlerCache(Class<? extends Event> eventClass) {
+        RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (cache == null) {
+            synchronized (this.lock) {
+                cache = this.handlersCache.get(eventClass);
+                if (cache == null) {
+                    cache = bakeHandlers(eventClass);
+                    this.handlersCache.put(eventClass, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
     @Nullable
     private static String getHandlerErrorOrNull(Method method) {
         int modifiers = method.getModifiers();
@@ -168,19 +160,33 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            List<RegisteredListener<?>> added = new ArrayList<>(handlers.size());
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    added.add(handler);
                     this.checker.registerListenerFor(handler.getEventClass());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (added.isEmpty()) {
+                return;
+            }
+            Collections.sort(added);
+
+            // Only patch the baked event types the new listeners apply to
+            List<RegisteredListener<?>> applicable = new ArrayList<>(added.size());
+            for (Map.Entry<Class<? extends Event>, RegisteredListener.Cache> entry : this.handlersCache.entrySet()) {
+                applicable.clear();
+                for (RegisteredListener<?> handler : added) {
+                    if (handler.getEventClass().isAssignableFrom(entry.getKey())) {
+                        applicable.add(handler);
+                    }
+                }
+                if (!applicable.isEmpty()) {
+                    entry.setValue(entry.getValue().with(applicable));
+                }
+            }
         }
     }
 
@@ -201,7 +207,7 @@ private void disableFields(Collection<RegisteredListener<? extends Event>> handl
 
     // Override in SpongeModEventManager
     protected boolean hasAnyListeners(Class<? extends Event> clazz) {
-        return !this.handlersCache.get(clazz).getListeners().isEmpty();
+        return getHandlerCache(clazz).getListenerArray().length != 0;
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -301,23 +307,37 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            Set<RegisteredListener<?>> removed = Sets.newIdentityHashSet();
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    removed.add(handler);
                     this.checker.unregisterListenerFor(handler.getEventClass());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (removed.isEmpty()) {
+                return;
+            }
+
+            Set<Class<?>> removedTypes = Sets.newHashSet();
+            for (RegisteredListener<?> handler : removed) {
+                removedTypes.add(handler.getEventClass());
+            }
+
+            // Only patch the baked event types the removed listeners applied to
+            for (Map.Entry<Class<? extends Event>, RegisteredListener.Cache> entry : this.handlersCache.entrySet()) {
+                for (Class<?> type : removedTypes) {
+                    if (type.isAssignableFrom(entry.getKey())) {
+                        entry.setValue(entry.getValue().without(removed));
+                        break;
+                    }
+                }
+            }
         }
     }
 
@@ -334,26 +354,41 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.get(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
     }
 
-    @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            CauseTracker.getInstance().getCurrentContext().activeContainer(handler.getPlugin());
-            try {
-                handler.getTimingsHandler().startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
-                }
-                handler.handle(event);
-            } catch (Throwable e) {
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
-            } finally {
-                handler.getTimingsHandler().stopTimingIfSync();
-                CauseTracker.getInstance().getCurrentContext().activeContainer(null);
+        for (RegisteredListener<?> handler : handlers) {
+            callListener(event, handler);
+        }
+        return postComplete(event);
+    }
+
+    private boolean post(Event event, RegisteredListener.Cache cache) {
+        if (cache.getListenerArray().length != 0) {
+            cache.getInvoker(this.invokerFactory).invoke(event);
+        }
+        return postComplete(event);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void callListener(Event event, RegisteredListener handler) {
+        CauseTracker.getInstance().getCurrentContext().activeContainer(handler.getPlugin());
+        try {
+            handler.getTimingsHandler().startTimingIfSync();
+            if (event instanceof AbstractEvent) {
+                ((AbstractEvent) event).currentOrder = handler.getOrder();
             }
+            handler.handle(event);
+        } catch (Throwable e) {
+            this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+        } finally {
+            handler.getTimingsHandler().stopTimingIfSync();
+            CauseTracker.getInstance().getCurrentContext().activeContainer(null);
         }
+    }
+
+    private static boolean postComplete(Event event) {
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -363,7 +398,7 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
 
     @Override
     public boolean post(Event event) {
-        return post(event, getHandlerCache(event).getListeners());
+        return post(event, getHandlerCache(event));
     }
 
     public boolean post(Event event, boolean allowClientThread) {
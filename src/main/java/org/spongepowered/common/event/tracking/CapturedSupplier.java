@@ -48,6 +48,14 @@ public final List<T> get() {
         return this.captured;
     }
 
+    /**
+     * Drops the captured objects, without clearing them as they may still be
+     * referenced elsewhere.
+     */
+    final void reset() {
+        this.captured = null;
+    }
+
     public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
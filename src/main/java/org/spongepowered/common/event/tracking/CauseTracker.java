@@ -103,8 +103,13 @@ public final class CauseTracker {
     };
 
     private final CauseStack stack = new CauseStack();
+    private final PhaseContextPool contextPool = new PhaseContextPool(
+            SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().getContextPoolSize(),
+            SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().detectContextLeaks());
 
     @Nullable private PhaseData currentProcessingState = null;
+    // The depth of ticks a world deliberately runs without tracking, see TickTrackingSwitch
+    private int untrackedTickDepth;
 
     public final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
     public final boolean verboseErrors = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().verboseErrors();
@@ -123,6 +128,23 @@ public static CauseTracker getInstance() {
 
     // ----------------- STATE ACCESS ----------------------------------
 
+    /**
+     * Marks the start of a tick which a world runs without entering a phase
+     * on purpose, so that its world changes aren't reported as unexpected.
+     * Must be paired with {@link #endUntrackedTick()}.
+     */
+    public void beginUntrackedTick() {
+        this.untrackedTickDepth++;
+    }
+
+    public void endUntrackedTick() {
+        this.untrackedTickDepth--;
+    }
+
+    PhaseContext acquireContext() {
+        return this.contextPool.acquire(this.stack);
+    }
+
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
         checkNotNull(state, "State cannot be null!");
         checkNotNull(state.getPhase(), "Phase cannot be null!");
@@ -178,6 +200,7 @@ public void abortCurrentPhase(Throwable t) {
         // Therefore, we skip running the normal unwind functions that completePhase calls,
         // and simply op the phase from the stack.
         this.stack.pop();
+        this.contextPool.discard(data.context);
     }
 
     public void completePhase(IPhaseState prevState) {
@@ -236,6 +259,7 @@ public void completePhase(IPhaseState prevState) {
         } catch (Exception | NoClassDefFoundError e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        this.contextPool.release(context);
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState state) {
@@ -450,7 +474,7 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
         final PhaseData phaseData = this.stack.peek();
         final IPhaseState phaseState = phaseData.state;
         final boolean isComplete = phaseState == GeneralPhase.State.COMPLETE;
-        if (CauseTracker.ENABLED && this.isVerbose && isComplete) {
+        if (CauseTracker.ENABLED && this.isVerbose && isComplete && this.untrackedTickDepth == 0) {
             // The random occurrence that we're told to complete a phase
             // while a world is being changed unknowingly.
             new PrettyPrinter(60).add("Unexpected World Change Detected").centre().hr()
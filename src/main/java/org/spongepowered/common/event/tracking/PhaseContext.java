@@ -84,10 +84,28 @@ public class PhaseContext {
 
     private Object source;
 
+    // Set for contexts of the PhaseContextPool, which reuse their capture suppliers
+    private boolean pooled;
+    private boolean released;
+    @Nullable private CaptureBuffers buffers;
+    @Nullable private Exception acquiredTrace;
+    @Nullable private Exception releasedTrace;
+
     public static PhaseContext start() {
         return new PhaseContext();
     }
 
+    /**
+     * Starts a new context which is recycled by the {@link CauseTracker} once
+     * the phase it was switched to is completed. The context, and anything
+     * captured by it, must not be used after the phase completed.
+     *
+     * @return The context
+     */
+    public static PhaseContext acquire() {
+        return CauseTracker.getInstance().acquireContext();
+    }
+
     public PhaseContext add(@Nullable NamedCause namedCause) {
         if (namedCause == null) {
             return this;
@@ -132,23 +150,24 @@ public PhaseContext addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
+        final CaptureBuffers buffers = this.buffers;
+        CapturedBlocksSupplier blocksSupplier = buffers == null ? new CapturedBlocksSupplier() : buffers.blocks();
+        this.contextObjects.add(buffers == null ? NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier) : buffers.blocksCause);
         this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
+        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = buffers == null ? new BlockItemEntityDropsSupplier() : buffers.blockItemEntityDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
         this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
+        BlockItemDropsSupplier blockItemDropsSupplier = buffers == null ? new BlockItemDropsSupplier() : buffers.blockItemDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
         this.blockItemDropsSupplier = blockItemDropsSupplier;
-        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
+        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = buffers == null ? new CapturedBlockEntitySpawnSupplier() : buffers.blockEntitySpawns();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ENTITY_SPAWNS, capturedBlockEntitySpawnSupplier));
         this.blockEntitySpawnSupplier = capturedBlockEntitySpawnSupplier;
 
-        CaptureBlockPos blockPos = new CaptureBlockPos();
+        CaptureBlockPos blockPos = buffers == null ? new CaptureBlockPos() : buffers.blockPos();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause
         this.captureBlockPos = blockPos;
@@ -162,30 +181,31 @@ public PhaseContext addCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
+        final CaptureBuffers buffers = this.buffers;
+        CapturedBlocksSupplier blocksSupplier = buffers == null ? new CapturedBlocksSupplier() : buffers.blocks();
+        this.contextObjects.add(buffers == null ? NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier) : buffers.blocksCause);
         this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
+        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = buffers == null ? new BlockItemEntityDropsSupplier() : buffers.blockItemEntityDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
         this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
+        BlockItemDropsSupplier blockItemDropsSupplier = buffers == null ? new BlockItemDropsSupplier() : buffers.blockItemDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
         this.blockItemDropsSupplier = blockItemDropsSupplier;
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
+        CapturedItemsSupplier capturedItemsSupplier = buffers == null ? new CapturedItemsSupplier() : buffers.items();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
         this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
+        CapturedEntitiesSupplier capturedEntitiesSupplier = buffers == null ? new CapturedEntitiesSupplier() : buffers.entities();
+        this.contextObjects.add(buffers == null ? NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier) : buffers.entitiesCause);
         this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
+        CapturedItemStackSupplier capturedItemStackSupplier = buffers == null ? new CapturedItemStackSupplier() : buffers.itemStacks();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
         this.capturedItemStackSupplier = capturedItemStackSupplier;
 
-        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
+        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = buffers == null ? new CapturedBlockEntitySpawnSupplier() : buffers.blockEntitySpawns();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ENTITY_SPAWNS, capturedBlockEntitySpawnSupplier));
         this.blockEntitySpawnSupplier = capturedBlockEntitySpawnSupplier;
@@ -198,14 +218,15 @@ public PhaseContext addEntityCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
+        final CaptureBuffers buffers = this.buffers;
+        CapturedItemsSupplier capturedItemsSupplier = buffers == null ? new CapturedItemsSupplier() : buffers.items();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
         this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
+        CapturedEntitiesSupplier capturedEntitiesSupplier = buffers == null ? new CapturedEntitiesSupplier() : buffers.entities();
+        this.contextObjects.add(buffers == null ? NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier) : buffers.entitiesCause);
         this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
+        CapturedItemStackSupplier capturedItemStackSupplier = buffers == null ? new CapturedItemStackSupplier() : buffers.itemStacks();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
         this.capturedItemStackSupplier = capturedItemStackSupplier;
@@ -217,11 +238,12 @@ public PhaseContext addEntityDropCaptures() {
         checkState(this.entityItemDropsSupplier == null, "EntityItemDropsSupplier is already set!");
         checkState(this.entityItemEntityDropsSupplier == null, "EntityItemEntityDropsSupplier is already set!");
 
-        EntityItemDropsSupplier entityItemDropsSupplier = new EntityItemDropsSupplier();
+        final CaptureBuffers buffers = this.buffers;
+        EntityItemDropsSupplier entityItemDropsSupplier = buffers == null ? new EntityItemDropsSupplier() : buffers.entityItemDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_STACK_DROPS, entityItemDropsSupplier));
         this.entityItemDropsSupplier = entityItemDropsSupplier;
-        EntityItemEntityDropsSupplier entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
+        EntityItemEntityDropsSupplier entityItemEntityDropsSupplier = buffers == null ? new EntityItemEntityDropsSupplier() : buffers.entityItemEntityDrops();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_ITEM_DROPS, entityItemEntityDropsSupplier));
         this.entityItemEntityDropsSupplier = entityItemEntityDropsSupplier;
@@ -242,7 +264,9 @@ public PhaseContext player(@Nullable Player player) {
 
     public PhaseContext explosion() {
         checkState(!this.isCompleted, "CAnnot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, new CaptureExplosion()));
+        this.contextObjects.add(this.buffers == null
+                ? NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, new CaptureExplosion())
+                : this.buffers.explosionCause());
         return this;
     }
 
@@ -288,6 +312,7 @@ public boolean isComplete() {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> first(Class<T> tClass) {
+        checkNotReleased();
         if (this.cachedClass != null && this.cachedClass == tClass) {
             if (this.cachedObject != null) {
                 return Optional.of((T) this.cachedObject);
@@ -307,6 +332,7 @@ public <T> Optional<T> first(Class<T> tClass) {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> firstNamed(String name, Class<T> tClass) {
+        checkNotReleased();
         if (name.equals(this.cachedName) && tClass == this.cachedClass) {
             if (this.cachedObject != null) {
                 return Optional.of((T) this.cachedObject);
@@ -325,6 +351,7 @@ public <T> Optional<T> firstNamed(String name, Class<T> tClass) {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getSource(Class<T> sourceClass) {
+        checkNotReleased();
         if (this.source == null) {
             return Optional.empty();
         }
@@ -463,6 +490,74 @@ public void forEach(Consumer<NamedCause> consumer) {
     PhaseContext() {
     }
 
+    boolean isPooled() {
+        return this.pooled;
+    }
+
+    /**
+     * Prepares this context to be handed out by the pool.
+     *
+     * @param leakDetection Whether to record where the context was acquired
+     */
+    void onAcquire(boolean leakDetection) {
+        if (!this.pooled) {
+            this.pooled = true;
+            this.buffers = new CaptureBuffers();
+        }
+        this.released = false;
+        this.releasedTrace = null;
+        this.acquiredTrace = leakDetection ? new Exception("Phase context acquired") : null;
+    }
+
+    /**
+     * Resets this context to be reused by the pool. The captured lists are
+     * dropped rather than cleared, as they may have been handed to events.
+     *
+     * @param leakDetection Whether to record where the context was released
+     */
+    void onRelease(boolean leakDetection) {
+        this.isCompleted = false;
+        this.contextObjects.clear();
+        this.cause = null;
+        this.blocksSupplier = null;
+        this.blockItemDropsSupplier = null;
+        this.blockItemEntityDropsSupplier = null;
+        this.capturedItemsSupplier = null;
+        this.capturedEntitiesSupplier = null;
+        this.capturedItemStackSupplier = null;
+        this.entityItemDropsSupplier = null;
+        this.entityItemEntityDropsSupplier = null;
+        this.blockEntitySpawnSupplier = null;
+        this.captureBlockPos = null;
+        this.owner = null;
+        this.notifier = null;
+        this.activeContainer = null;
+        this.source = null;
+        this.cachedClass = null;
+        this.cachedObject = null;
+        this.cachedName = null;
+        if (this.buffers != null) {
+            this.buffers.reset();
+        }
+        this.released = true;
+        this.releasedTrace = leakDetection ? new Exception("Phase context released") : null;
+    }
+
+    @Nullable
+    Exception getAcquiredTrace() {
+        return this.acquiredTrace;
+    }
+
+    private void checkNotReleased() {
+        if (this.released) {
+            final IllegalStateException exception = new IllegalStateException("Phase context was used after its phase completed!");
+            if (this.releasedTrace != null) {
+                exception.addSuppressed(this.releasedTrace);
+            }
+            throw exception;
+        }
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(this.isCompleted, this.contextObjects, this.cause);
@@ -491,6 +586,145 @@ public String toString() {
                 .toString();
     }
 
+    /**
+     * The suppliers of a pooled context, created once and reset whenever the
+     * context is released.
+     */
+    static final class CaptureBuffers {
+
+        @Nullable private CapturedBlocksSupplier blocks;
+        @Nullable private BlockItemEntityDropsSupplier blockItemEntityDrops;
+        @Nullable private BlockItemDropsSupplier blockItemDrops;
+        @Nullable private CapturedBlockEntitySpawnSupplier blockEntitySpawns;
+        @Nullable private CaptureBlockPos blockPos;
+        @Nullable private CapturedItemsSupplier items;
+        @Nullable private CapturedEntitiesSupplier entities;
+        @Nullable private CapturedItemStackSupplier itemStacks;
+        @Nullable private EntityItemDropsSupplier entityItemDrops;
+        @Nullable private EntityItemEntityDropsSupplier entityItemEntityDrops;
+        @Nullable private CaptureExplosion explosion;
+        @Nullable NamedCause blocksCause;
+        @Nullable NamedCause entitiesCause;
+        @Nullable private NamedCause explosionCause;
+
+        CapturedBlocksSupplier blocks() {
+            if (this.blocks == null) {
+                this.blocks = new CapturedBlocksSupplier();
+                this.blocksCause = NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, this.blocks);
+            }
+            return this.blocks;
+        }
+
+        BlockItemEntityDropsSupplier blockItemEntityDrops() {
+            if (this.blockItemEntityDrops == null) {
+                this.blockItemEntityDrops = new BlockItemEntityDropsSupplier();
+            }
+            return this.blockItemEntityDrops;
+        }
+
+        BlockItemDropsSupplier blockItemDrops() {
+            if (this.blockItemDrops == null) {
+                this.blockItemDrops = new BlockItemDropsSupplier();
+            }
+            return this.blockItemDrops;
+        }
+
+        CapturedBlockEntitySpawnSupplier blockEntitySpawns() {
+            if (this.blockEntitySpawns == null) {
+                this.blockEntitySpawns = new CapturedBlockEntitySpawnSupplier();
+            }
+            return this.blockEntitySpawns;
+        }
+
+        CaptureBlockPos blockPos() {
+            if (this.blockPos == null) {
+                this.blockPos = new CaptureBlockPos();
+            }
+            return this.blockPos;
+        }
+
+        CapturedItemsSupplier items() {
+            if (this.items == null) {
+                this.items = new CapturedItemsSupplier();
+            }
+            return this.items;
+        }
+
+        CapturedEntitiesSupplier entities() {
+            if (this.entities == null) {
+                this.entities = new CapturedEntitiesSupplier();
+                this.entitiesCause = NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, this.entities);
+            }
+            return this.entities;
+        }
+
+        CapturedItemStackSupplier itemStacks() {
+            if (this.itemStacks == null) {
+                this.itemStacks = new CapturedItemStackSupplier();
+            }
+            return this.itemStacks;
+        }
+
+        EntityItemDropsSupplier entityItemDrops() {
+            if (this.entityItemDrops == null) {
+                this.entityItemDrops = new EntityItemDropsSupplier();
+            }
+            return this.entityItemDrops;
+        }
+
+        EntityItemEntityDropsSupplier entityItemEntityDrops() {
+            if (this.entityItemEntityDrops == null) {
+                this.entityItemEntityDrops = new EntityItemEntityDropsSupplier();
+            }
+            return this.entityItemEntityDrops;
+        }
+
+        NamedCause explosionCause() {
+            if (this.explosion == null) {
+                this.explosion = new CaptureExplosion();
+                this.explosionCause = NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, this.explosion);
+            }
+            return this.explosionCause;
+        }
+
+        void reset() {
+            if (this.blocks != null) {
+                this.blocks.reset();
+            }
+            if (this.blockItemEntityDrops != null) {
+                this.blockItemEntityDrops.reset();
+            }
+            if (this.blockItemDrops != null) {
+                this.blockItemDrops.reset();
+            }
+            if (this.blockEntitySpawns != null) {
+                this.blockEntitySpawns.reset();
+            }
+            if (this.blockPos != null) {
+                this.blockPos.setPos(null);
+                this.blockPos.setWorld((IMixinWorldServer) null);
+            }
+            if (this.items != null) {
+                this.items.reset();
+            }
+            if (this.entities != null) {
+                this.entities.reset();
+            }
+            if (this.itemStacks != null) {
+                this.itemStacks.reset();
+            }
+            if (this.entityItemDrops != null) {
+                this.entityItemDrops.reset();
+            }
+            if (this.entityItemEntityDrops != null) {
+                this.entityItemEntityDrops.reset();
+            }
+            if (this.explosion != null) {
+                this.explosion.explosion = null;
+            }
+        }
+    }
+
     static class BlockItemDropsSupplier extends CapturedMultiMapSupplier<BlockPos, ItemDropData> {
 
         BlockItemDropsSupplier() {
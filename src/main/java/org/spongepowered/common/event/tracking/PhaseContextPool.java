@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import com.google.common.collect.Sets;
+import org.apache.logging.log4j.Level;
+import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+
+/**
+ * Recycles the {@link PhaseContext}s acquired with {@link PhaseContext#acquire()}
+ * once their phase is completed, along with their capture suppliers.
+ *
+ * <p>Only contexts acquired on the server thread are pooled. With leak
+ * detection enabled, the contexts which are still out while the cause stack
+ * is empty are reported together with where they were acquired.</p>
+ */
+final class PhaseContextPool {
+
+    private final ArrayDeque<PhaseContext> pool = new ArrayDeque<>();
+    private final int maxSize;
+    private final boolean leakDetection;
+    // Only tracked with leak detection
+    private final Set<PhaseContext> acquired = Sets.newIdentityHashSet();
+
+    PhaseContextPool(int maxSize, boolean leakDetection) {
+        this.maxSize = maxSize;
+        this.leakDetection = leakDetection;
+    }
+
+    PhaseContext acquire(CauseStack stack) {
+        if (this.maxSize <= 0 || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return new PhaseContext();
+        }
+        if (this.leakDetection && stack.isEmpty() && !this.acquired.isEmpty()) {
+            reportLeaks();
+        }
+        PhaseContext context = this.pool.poll();
+        if (context == null) {
+            context = new PhaseContext();
+        }
+        context.onAcquire(this.leakDetection);
+        if (this.leakDetection) {
+            this.acquired.add(context);
+        }
+        return context;
+    }
+
+    void release(PhaseContext context) {
+        if (!context.isPooled()) {
+            return;
+        }
+        if (this.leakDetection && !this.acquired.remove(context)) {
+            new PrettyPrinter(60).add("Releasing phase context twice").centre().hr()
+                    .add("A pooled phase context was completed more than once.")
+                    .add("Context: %s", context)
+                    .add("Stacktrace:")
+                    .add(new Exception("Stack trace"))
+                    .trace(System.err, SpongeImpl.getLogger(), Level.ERROR);
+            return;
+        }
+        context.onRelease(this.leakDetection);
+        if (this.pool.size() < this.maxSize) {
+            this.pool.push(context);
+        }
+    }
+
+    /**
+     * Forgets a pooled context without reusing it, used when its phase was
+     * aborted and its state is unknown.
+     *
+     * @param context The context
+     */
+    void discard(PhaseContext context) {
+        if (this.leakDetection) {
+            this.acquired.remove(context);
+        }
+    }
+
+    private void reportLeaks() {
+        final PrettyPrinter printer = new PrettyPrinter(60).add("Leaked phase contexts").centre().hr()
+                .addWrapped(50, "The following pooled phase contexts were acquired but their phases "
+                                + "were never completed. They can't be reused.");
+        for (PhaseContext context : this.acquired) {
+            printer.add().add("Context: %s", context);
+            final Exception trace = context.getAcquiredTrace();
+            if (trace != null) {
+                printer.add(trace);
+            }
+        }
+        printer.trace(System.err, SpongeImpl.getLogger(), Level.ERROR);
+        this.acquired.clear();
+    }
+}
@@ -140,7 +140,7 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
             return;
         }
 
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = PhaseContext.acquire()
                 .add(NamedCause.source(entityIn))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -172,7 +172,7 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
             // Don't tick entity in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = PhaseContext.acquire()
                 .add(NamedCause.source(entity))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -201,7 +201,7 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
             // Don't tick TE's in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = PhaseContext.acquire()
                 .add(NamedCause.source(tile))
                 .addEntityCaptures()
                 .addBlockCaptures();
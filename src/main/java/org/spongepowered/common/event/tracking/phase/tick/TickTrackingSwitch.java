@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.tick;
+
+import co.aikar.timings.Timing;
+import org.spongepowered.common.config.category.TickTrackingCategory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides per world and tick kind whether a tick is run within its tracked
+ * {@link TickPhase} state or directly without any phase context, according
+ * to the {@link TickTrackingCategory} of the world.
+ *
+ * <p>The time spent in tracked ticks is reported to the given {@link Timing}
+ * and, in {@link TickTrackingCategory.Mode#BUDGET} mode, counted against
+ * the budget of the current world tick.</p>
+ */
+public final class TickTrackingSwitch {
+
+    private final TickTrackingCategory.Mode mode;
+    private final int sampleRate;
+    private final long budgetNanos;
+    private final Timing timing;
+
+    private int sampleCounter;
+    private long spentNanos;
+
+    public TickTrackingSwitch(TickTrackingCategory category, Timing timing) {
+        this.mode = category.getMode();
+        this.sampleRate = Math.max(1, category.getSampleRate());
+        this.budgetNanos = (long) (category.getBudget() * TimeUnit.MILLISECONDS.toNanos(1));
+        this.timing = timing;
+    }
+
+    /**
+     * Gets whether the next tick should be tracked. Untracked ticks must be
+     * run directly, without entering their phase.
+     *
+     * @return True if the tick should be tracked
+     */
+    public boolean shouldTrack() {
+        switch (this.mode) {
+            case DISABLED:
+                return false;
+            case SAMPLED:
+                if (++this.sampleCounter < this.sampleRate) {
+                    return false;
+                }
+                this.sampleCounter = 0;
+                return true;
+            case BUDGET:
+                return this.spentNanos < this.budgetNanos;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Marks the start of a tracked tick.
+     *
+     * @return The start time, to be passed to {@link #stopTracking(long)}
+     */
+    public long startTracking() {
+        this.timing.startTiming();
+        return this.mode == TickTrackingCategory.Mode.BUDGET ? System.nanoTime() : 0L;
+    }
+
+    public void stopTracking(long startTime) {
+        if (this.mode == TickTrackingCategory.Mode.BUDGET) {
+            this.spentNanos += System.nanoTime() - startTime;
+        }
+        this.timing.stopTiming();
+    }
+
+    /**
+     * Resets the spent budget, called at the start of each world tick.
+     */
+    public void resetTick() {
+        this.spentNanos = 0L;
+    }
+}
@@ -44,9 +44,10 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.lighting.AsyncLightingEngine;
+import org.spongepowered.common.world.lighting.LightingContext;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
@@ -96,9 +97,9 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos);
 
-    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
+    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors, LightingContext context);
 
-    ExecutorService getLightingExecutor();
+    AsyncLightingEngine getLightingEngine();
 
     WorldTimingsHandler getTimingsHandler();
 
@@ -29,6 +29,7 @@
 
 import co.aikar.timings.SpongeTimings;
 import co.aikar.timings.TimingsManager;
+import com.google.common.collect.ImmutableSet;
 import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -44,9 +45,11 @@
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.SpongeManipulatorRegistry;
 import org.spongepowered.common.data.ValueProcessor;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.entity.player.SpongeUser;
@@ -54,9 +57,9 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Mixin(value = {TileEntity.class, Entity.class, ItemStack.class, SpongeUser.class}, priority = 999)
 public abstract class MixinDataHolder implements DataHolder {
@@ -158,7 +161,7 @@ public boolean supports(Class<? extends DataManipulator<?, ?>> holderClass) {
     public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataOfferKey.startTimingIfSync();
-        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = DataUtil.getBaseValueProcessor(key);
+        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = DataUtil.getBaseValueProcessor(key, getClass());
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().offerToStore(this, value);
             SpongeTimings.dataOfferKey.stopTimingIfSync();
@@ -258,7 +261,7 @@ public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> conta
     public DataTransactionResult remove(Key<?> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataRemoveKey.startTimingIfSync();
-        final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().removeFrom(this);
             SpongeTimings.dataRemoveKey.stopTimingIfSync();
@@ -306,7 +309,7 @@ public DataTransactionResult copyFrom(DataHolder that, MergeFunction function) {
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataGetByKey.startTimingIfSync();
-        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = DataUtil.getBaseValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = DataUtil.getBaseValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final Optional<E> value = optional.get().getValueFromContainer(this);
             SpongeTimings.dataGetByKey.stopTimingIfSync();
@@ -327,7 +330,7 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataGetValue.startTimingIfSync();
-        final Optional<ValueProcessor<E, V>> optional = DataUtil.getValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<E, V>> optional = DataUtil.getValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final Optional<V> value = optional.get().getApiValueFromContainer(this);
             SpongeTimings.dataGetValue.stopTimingIfSync();
@@ -348,7 +351,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     public boolean supports(Key<?> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataSupportsKey.startTimingIfSync();
-        final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final boolean supports = optional.get().supports(this);
             SpongeTimings.dataSupportsKey.stopTimingIfSync();
@@ -368,12 +371,40 @@ public boolean supports(Key<?> key) {
 
     @Override
     public Set<Key<?>> getKeys() {
-        return getContainers().stream().flatMap(container -> container.getKeys().stream()).collect(Collectors.toSet());
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (Key<?> key : SpongeManipulatorRegistry.getInstance().getKeys(getClass())) {
+            final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(key, getClass());
+            if (optional.isPresent() && optional.get().getValueFromContainer(this).isPresent()) {
+                builder.add(key);
+            }
+        }
+        if (this instanceof IMixinCustomDataHolder && ((IMixinCustomDataHolder) this).hasManipulators()) {
+            for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) this).getCustomManipulators()) {
+                builder.addAll(manipulator.getKeys());
+            }
+        }
+        return builder.build();
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
-        return getContainers().stream().flatMap(container -> container.getValues().stream()).collect(Collectors.toSet());
+        // A snapshot, the values are read right away
+        final Set<ImmutableValue<?>> values = new HashSet<>();
+        for (Key<?> key : SpongeManipulatorRegistry.getInstance().getKeys(getClass())) {
+            final Optional<ValueProcessor<?, ?>> optional = DataUtil.getWildValueProcessor(key, getClass());
+            if (optional.isPresent()) {
+                final Optional<? extends BaseValue<?>> value = optional.get().getApiValueFromContainer(this);
+                if (value.isPresent()) {
+                    values.add(value.get() instanceof Value ? ((Value<?>) value.get()).asImmutable() : (ImmutableValue<?>) value.get());
+                }
+            }
+        }
+        if (this instanceof IMixinCustomDataHolder && ((IMixinCustomDataHolder) this).hasManipulators()) {
+            for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) this).getCustomManipulators()) {
+                values.addAll(manipulator.getValues());
+            }
+        }
+        return values;
     }
 
     // The rest of these are default implemented in the event some implementation fails.
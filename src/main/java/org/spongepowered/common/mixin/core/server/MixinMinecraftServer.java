@@ -108,6 +108,7 @@
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.util.SpongeUsernameCache;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
@@ -321,21 +322,27 @@ public void onServerStopping(CallbackInfo ci) {
         if (this.worlds != null && SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations() &&
                 SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
             for (WorldServer world : this.worlds) {
-                ((IMixinWorldServer) world).getLightingExecutor().shutdown();
+                ((IMixinWorldServer) world).getLightingEngine().shutdown();
             }
 
             for (WorldServer world : this.worlds) {
                 try {
-                    ((IMixinWorldServer) world).getLightingExecutor().awaitTermination(1, TimeUnit.SECONDS);
+                    ((IMixinWorldServer) world).getLightingEngine().awaitTermination(1, TimeUnit.SECONDS);
                 } catch (InterruptedException e) {
                     e.printStackTrace();
                 } finally {
-                    ((IMixinWorldServer) world).getLightingExecutor().shutdownNow();
+                    ((IMixinWorldServer) world).getLightingEngine().shutdownNow();
                 }
             }
         }
     }
 
+    @Inject(method = "stopServer()V", at = @At("RETURN"))
+    public void onServerStopped(CallbackInfo ci) {
+        // Worlds are saved at this point, write the username cache before the jvm exits
+        SpongeUsernameCache.flush();
+    }
+
     /**
      * @author blood - December 23rd, 2015
      * @author Zidane - March 13th, 2016
@@ -120,6 +120,7 @@
 import org.spongepowered.common.service.ban.SpongeIPBanList;
 import org.spongepowered.common.service.ban.SpongeUserListBans;
 import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.user.UserProfileIndex;
 import org.spongepowered.common.service.whitelist.SpongeUserListWhitelist;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.chat.ChatUtil;
@@ -797,6 +798,7 @@ private void onPlayerLogOut(EntityPlayerMP player, CallbackInfo ci) {
         NBTTagCompound nbt = new NBTTagCompound();
         player.writeToNBT(nbt);
         ((SpongeUser) ((IMixinEntityPlayerMP) player).getUserObject()).readFromNbt(nbt);
+        UserProfileIndex.onLogout(player.getGameProfile());
 
         // Remove player reference from scoreboard
         ((IMixinServerScoreboard) ((Player) player).getScoreboard()).removePlayer(player, false);
@@ -821,6 +823,11 @@ private void onSaveAllPlayerData(CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "playerLoggedIn", at = @At("HEAD"))
+    private void onPlayerLoggedIn(EntityPlayerMP player, CallbackInfo ci) {
+        UserProfileIndex.onLogin(player.getGameProfile());
+    }
+
     @Inject(method = "playerLoggedIn", at = @At(value = "INVOKE", target = SERVER_SEND_PACKET_TO_ALL_PLAYERS, shift = At.Shift.BEFORE), cancellable = true)
     public void playerLoggedIn2(EntityPlayerMP player, CallbackInfo ci) {
         // Create a packet to be used for players without context data
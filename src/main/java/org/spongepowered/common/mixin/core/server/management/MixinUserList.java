@@ -32,6 +32,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.service.permission.base.PermissionCache;
 
 import java.io.File;
 import java.util.List;
@@ -48,6 +49,17 @@ public boolean onAdd(List<Object> list, Object object) {
         return list.add(this.getObjectKey(object)); // Mojang didn't implement this correctly, so we'll fix it
     }
 
+    // Op levels are parents of user subjects
+    @Inject(method = "writeChanges", at = @At("HEAD"))
+    private void onWriteChanges(CallbackInfo ci) {
+        PermissionCache.invalidateAll();
+    }
+
+    @Inject(method = "readSavedFile", at = @At("RETURN"))
+    private void onReadSavedFileReturn(CallbackInfo ci) {
+        PermissionCache.invalidateAll();
+    }
+
     // Don't throw exception if user list file does not exist
     @Inject(method = "readSavedFile", at = @At("HEAD"), cancellable = true)
     private void onReadSavedFile(CallbackInfo ci) {
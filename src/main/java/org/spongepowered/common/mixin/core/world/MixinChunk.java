@@ -103,6 +103,7 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.BlockOwnerIndex;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -676,13 +677,8 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public BlockOwnerIndex getBlockOwnerIndex() {
+        return BlockOwnerIndex.EMPTY;
     }
 
     @Override
@@ -706,11 +702,7 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setBlockOwnerIndex(BlockOwnerIndex index) {
     }
 
     // Continuing the rest of the implementation
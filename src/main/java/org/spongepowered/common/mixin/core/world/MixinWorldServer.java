@@ -147,6 +147,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.PhaseTrackingCategory;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.effect.particle.SpongeParticleEffect;
@@ -164,6 +165,7 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
+import org.spongepowered.common.event.tracking.phase.tick.TickTrackingSwitch;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinNextTickListEntry;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
@@ -237,6 +239,10 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
     private int dimensionId;
+    private TickTrackingSwitch entityTickTracking;
+    private TickTrackingSwitch tileEntityTickTracking;
+    private TickTrackingSwitch blockTickTracking;
+    private TickTrackingSwitch randomBlockTickTracking;
 
     @Shadow @Final private MinecraftServer mcServer;
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
@@ -293,6 +299,11 @@ public void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Worl
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
+        final PhaseTrackingCategory phaseTracking = this.getActiveConfig().getConfig().getPhaseTracking();
+        this.entityTickTracking = new TickTrackingSwitch(phaseTracking.getEntityTicks(), this.timings.causeTrackerEntityTickTimer);
+        this.tileEntityTickTracking = new TickTrackingSwitch(phaseTracking.getTileEntityTicks(), this.timings.causeTrackerTileEntityTickTimer);
+        this.blockTickTracking = new TickTrackingSwitch(phaseTracking.getBlockTicks(), this.timings.causeTrackerBlockTickTimer);
+        this.randomBlockTickTracking = new TickTrackingSwitch(phaseTracking.getRandomBlockTicks(), this.timings.causeTrackerRandomBlockTickTimer);
         this.updateEntityTick = 0;
     }
 
@@ -727,10 +738,18 @@ protected void updateBlocks() {
                                 spongeBlock.getTimingsHandler().startTiming();
                                 final PhaseData currentTuple = causeTracker.getCurrentPhaseData();
                                 final IPhaseState phaseState = currentTuple.state;
-                                if (!CauseTracker.ENABLED || phaseState.getPhase().alreadyCapturingBlockTicks(phaseState, currentTuple.context)) {
-                                    block.randomTick((WorldServer) (Object) this, pos, iblockstate, this.rand);
+                                if (!CauseTracker.ENABLED || phaseState.getPhase().alreadyCapturingBlockTicks(phaseState, currentTuple.context)
+                                        || !this.randomBlockTickTracking.shouldTrack()) {
+                                    causeTracker.beginUntrackedTick();
+                                    try {
+                                        block.randomTick((WorldServer) (Object) this, pos, iblockstate, this.rand);
+                                    } finally {
+                                        causeTracker.endUntrackedTick();
+                                    }
                                 } else {
+                                    final long trackingStart = this.randomBlockTickTracking.startTracking();
                                     TrackingUtil.randomTickBlock(causeTracker, this, block, pos, iblockstate, this.rand);
+                                    this.randomBlockTickTracking.stopTracking(trackingStart);
                                 }
                                 spongeBlock.getTimingsHandler().stopTiming();
                                 // Sponge end
@@ -804,14 +823,22 @@ public void onUpdateTick(Block block, net.minecraft.world.World worldIn, BlockPo
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final PhaseData phaseData = causeTracker.getCurrentPhaseData();
         final IPhaseState phaseState = phaseData.state;
-        if (phaseState.getPhase().alreadyCapturingBlockTicks(phaseState, phaseData.context) || phaseState.getPhase().ignoresBlockUpdateTick(phaseData)) {
-            block.updateTick(worldIn, pos, state, rand);
+        if (phaseState.getPhase().alreadyCapturingBlockTicks(phaseState, phaseData.context) || phaseState.getPhase().ignoresBlockUpdateTick(phaseData)
+                || !this.blockTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                block.updateTick(worldIn, pos, state, rand);
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             return;
         }
 
         IMixinBlock spongeBlock = (IMixinBlock) block;
         spongeBlock.getTimingsHandler().startTiming();
+        final long trackingStart = this.blockTickTracking.startTracking();
         TrackingUtil.updateTickBlock(this, block, pos, state, rand);
+        this.blockTickTracking.stopTracking(trackingStart);
         spongeBlock.getTimingsHandler().stopTiming();
     }
 
@@ -1328,16 +1355,24 @@ public boolean setBlockState(BlockPos pos, IBlockState state, BlockChangeFlag fl
     public void immediateBlockTick(BlockPos pos, IBlockState state, Random random) {
         this.scheduledUpdatesAreImmediate = true;
         // Sponge start - Cause tracking
-        final PhaseData peek = CauseTracker.getInstance().getCurrentPhaseData();
-        if (!CauseTracker.ENABLED || peek.state.getPhase().ignoresBlockUpdateTick(peek)) {
-            state.getBlock().updateTick((WorldServer) (Object) this, pos, state, random);
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final PhaseData peek = causeTracker.getCurrentPhaseData();
+        if (!CauseTracker.ENABLED || peek.state.getPhase().ignoresBlockUpdateTick(peek) || !this.blockTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                state.getBlock().updateTick((WorldServer) (Object) this, pos, state, random);
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             // THIS NEEDS TO BE SET BACK TO FALSE OR ELSE ALL HELL BREAKS LOOSE!
             // No seriously, if this is not set back to false, all future updates are processed immediately
             // and various things get caught under the Unwinding Phase.
             this.scheduledUpdatesAreImmediate = false;
             return;
         }
+        final long trackingStart = this.blockTickTracking.startTracking();
         TrackingUtil.updateTickBlock(this, state.getBlock(), pos, state, random);
+        this.blockTickTracking.stopTracking(trackingStart);
         // Sponge end
         this.scheduledUpdatesAreImmediate = false;
     }
@@ -1418,11 +1453,18 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean
     protected void onUpdateWeatherEffect(net.minecraft.entity.Entity entityIn) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final IPhaseState state = causeTracker.getCurrentState();
-        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state)) {
-            entityIn.onUpdate();
+        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state) || !this.entityTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                entityIn.onUpdate();
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             return;
         }
+        final long trackingStart = this.entityTickTracking.startTracking();
         TrackingUtil.tickEntity(entityIn);
+        this.entityTickTracking.stopTracking(trackingStart);
         updateRotation(entityIn);
     }
 
@@ -1436,24 +1478,38 @@ private void updateTileEntity(ITickable tile) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final IPhaseState state = causeTracker.getCurrentState();
 
-        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingTileTicks(state)) {
-            tile.update();
+        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingTileTicks(state) || !this.tileEntityTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                tile.update();
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             return;
         }
 
+        final long trackingStart = this.tileEntityTickTracking.startTracking();
         TrackingUtil.tickTileEntity(this, tile);
+        this.tileEntityTickTracking.stopTracking(trackingStart);
     }
 
     @Override
     protected void onCallEntityUpdate(net.minecraft.entity.Entity entity) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final IPhaseState state = causeTracker.getCurrentState();
-        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state)) {
-            entity.onUpdate();
+        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state) || !this.entityTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                entity.onUpdate();
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             return;
         }
 
+        final long trackingStart = this.entityTickTracking.startTracking();
         TrackingUtil.tickEntity(entity);
+        this.entityTickTracking.stopTracking(trackingStart);
         updateRotation(entity);
     }
 
@@ -1461,12 +1517,19 @@ protected void onCallEntityUpdate(net.minecraft.entity.Entity entity) {
     protected void onCallEntityRidingUpdate(net.minecraft.entity.Entity entity) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final IPhaseState state = causeTracker.getCurrentState();
-        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state)) {
-            entity.updateRidden();
+        if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingEntityTicks(state) || !this.entityTickTracking.shouldTrack()) {
+            causeTracker.beginUntrackedTick();
+            try {
+                entity.updateRidden();
+            } finally {
+                causeTracker.endUntrackedTick();
+            }
             return;
         }
 
+        final long trackingStart = this.entityTickTracking.startTracking();
         TrackingUtil.tickRidingEntity(entity);
+        this.entityTickTracking.stopTracking(trackingStart);
         updateRotation(entity);
     }
 
@@ -1627,7 +1690,7 @@ public Explosion newExplosion(@Nullable net.minecraft.entity.Entity entityIn, do
         // Sponge Start - Cause tracking
         this.processingExplosion = true;
         if (CauseTracker.ENABLED) {
-            PhaseContext phaseContext = PhaseContext.start()
+            PhaseContext phaseContext = PhaseContext.acquire()
                     .explosion()
                     .addEntityCaptures()
                     .addEntityDropCaptures()
@@ -2038,6 +2101,14 @@ protected void endPendingTileEntities() {
         TimingHistory.tileEntityTicks += this.loadedTileEntityList.size();
     }
 
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void onTickStart(CallbackInfo ci) {
+        this.entityTickTracking.resetTick();
+        this.tileEntityTickTracking.resetTick();
+        this.blockTickTracking.resetTick();
+        this.randomBlockTickTracking.resetTick();
+    }
+
     @Inject(method = "tick", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=tickPending") )
     private void onBeginTickBlockUpdate(CallbackInfo ci) {
         this.timings.scheduledBlocks.startTiming();
@@ -25,7 +25,6 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
@@ -36,7 +35,6 @@
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
-import net.minecraft.world.chunk.storage.RegionFileCache;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.entity.EntityType;
@@ -63,69 +61,54 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.BlockOwnerIndex;
+import org.spongepowered.common.world.storage.RegionChunkWriter;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.io.DataInputStream;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
-    private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
+    private RegionChunkWriter writer;
     private final Object lock = new Object();
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
 
+    private static final String REGION_FILE_CACHE_GET_CHUNK_INPUT_STREAM =
+            "Lnet/minecraft/world/chunk/storage/RegionFileCache;getChunkInputStream(Ljava/io/File;II)Ljava/io/DataInputStream;";
+
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Set<ChunkPos> field_193415_c;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
 
-    @Shadow
-    public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void onConstruct(CallbackInfo ci) {
+        this.writer = new RegionChunkWriter(this.chunkSaveLocation, this::onChunkWritten);
+    }
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
         // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        final BlockOwnerIndex ownerIndex = chunk.getBlockOwnerIndex();
+        if (!ownerIndex.isEmpty()) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_BLOCK_OWNER_INDEX, ownerIndex.toIntArray());
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
@@ -133,34 +116,43 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
-            IMixinChunk chunk = (IMixinChunk) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
-                }
+            final NBTTagCompound trackedNbt = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
+            final IMixinChunk chunk = (IMixinChunk) chunkIn;
+            if (trackedNbt.hasKey(NbtDataUtil.SPONGE_BLOCK_OWNER_INDEX, NbtDataUtil.TAG_INT_ARRAY)) {
+                chunk.setBlockOwnerIndex(BlockOwnerIndex.fromIntArray(trackedNbt.getIntArray(NbtDataUtil.SPONGE_BLOCK_OWNER_INDEX)));
+            } else if (trackedNbt.hasKey(NbtDataUtil.SPONGE_BLOCK_POS_TABLE)) {
+                chunk.setBlockOwnerIndex(readLegacyBlockPosTable(trackedNbt.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_COMPOUND)));
+            }
+        }
+    }
+
+    // Migrates the position table written before the block owner index, remove in future
+    private static BlockOwnerIndex readLegacyBlockPosTable(NBTTagList positions) {
+        final BlockOwnerIndex ownerIndex = new BlockOwnerIndex();
+        for (int i = 0; i < positions.tagCount(); i++) {
+            NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            int owner = BlockOwnerIndex.NO_INDEX;
+            int notifier = BlockOwnerIndex.NO_INDEX;
+            if (valueNbt.hasKey("owner")) {
+                owner = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                owner = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifier = valueNbt.getInteger("notifier");
+            }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
-                }
+            final int key;
+            if (valueNbt.hasKey("pos")) {
+                final short pos = valueNbt.getShort("pos");
+                key = BlockOwnerIndex.key(pos & 0xF, (pos >> 4) & 0xFF, (pos >> 12) & 0xF);
+            } else {
+                final int pos = valueNbt.getInteger("ipos");
+                key = BlockOwnerIndex.key(pos & 0xF, (pos >> 4) & 0xFFFFFF, (pos >> 28) & 0xF);
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            ownerIndex.set(key, owner, notifier);
         }
+        return ownerIndex;
     }
 
     /**
@@ -220,7 +212,18 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        return WorldStorageUtil.isChunkSaved(this.chunkSaveLocation, x, z);
+    }
+
+    @Redirect(method = "loadChunk", at = @At(value = "INVOKE", target = REGION_FILE_CACHE_GET_CHUNK_INPUT_STREAM))
+    private DataInputStream onLoadChunkGetInputStream(File worldDir, int x, int z) {
+        return WorldStorageUtil.getChunkInputStream(worldDir, x, z);
+    }
+
+    // loadChunk__Async only exists on Forge
+    @Redirect(method = "loadChunk__Async", at = @At(value = "INVOKE", target = REGION_FILE_CACHE_GET_CHUNK_INPUT_STREAM), require = 0, expect = 0)
+    private DataInputStream onLoadChunkAsyncGetInputStream(File worldDir, int x, int z) {
+        return WorldStorageUtil.getChunkInputStream(worldDir, x, z);
     }
 
     /**
@@ -235,70 +238,46 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
         synchronized (this.lock) {
             this.chunksToRemove.put(pos, compound);
         }
-        this.queue.add(new QueuedChunk(pos, compound));
+        this.writer.submit(new QueuedChunk(pos, compound));
 
+        // Still register with the IO thread, so waiting for it to finish
+        // also waits for the region writers
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
 
     /**
      * @author aikar - February 19th, 2017
-     * @reason Refactor entire method for chunk queue improvements.
-     * @return Whether write was successful
+     * @reason Refactor entire method for chunk queue improvements. Chunks are
+     *     written by the region writers, this only reports whether they are
+     *     still busy and blocks until they are done when flushing, which
+     *     ends the flush.
+     * @return Whether chunks are still being written
      */
     @Overwrite
     public boolean writeNextIO() {
-        QueuedChunk chunk = this.queue.poll();
-        if (chunk == null) {
-            if (this.flushing) {
-                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
-            }
-
-            return false;
-        } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
-
-            try {
-                // this.field_193415_c.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
-                }
+        if (!this.flushing) {
+            return !this.writer.isIdle();
+        }
 
-                synchronized (this.lock) {
-                    if (this.chunksToRemove.get(chunkpos) == nbttagcompound) {
-                        this.chunksToRemove.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.field_193415_c.remove(chunkpos);
+        this.writer.awaitIdle();
+        // Both the flushing thread and the IO thread may get here, only the
+        // one ending the flush reports it
+        synchronized (this.lock) {
+            if (!this.flushing) {
+                return false;
             }
+            this.flushing = false;
+        }
+        LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+        return false;
+    }
 
-            return lvt_3_1_;
+    private void onChunkWritten(ChunkPos pos, NBTTagCompound compound) {
+        // Sponge - This will not equal if a newer version is still pending
+        synchronized (this.lock) {
+            if (this.chunksToRemove.get(pos) == compound) {
+                this.chunksToRemove.remove(pos);
+            }
         }
     }
 
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.storage.MappedRegionFileCache;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile {
+
+    @Shadow @Final private File fileName;
+
+    // Lets mapped readers of the file detect writes, see MappedRegionFile
+    private AtomicLong writeStamp;
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void onConstruct(File file, CallbackInfo ci) {
+        this.writeStamp = MappedRegionFileCache.getWriteStamp(this.fileName);
+    }
+
+    @Inject(method = "write(II[BI)V", at = @At("HEAD"))
+    private void onWriteStart(int x, int z, byte[] data, int length, CallbackInfo ci) {
+        this.writeStamp.incrementAndGet();
+    }
+
+    @Inject(method = "write(II[BI)V", at = @At("RETURN"))
+    private void onWriteEnd(int x, int z, byte[] data, int length, CallbackInfo ci) {
+        this.writeStamp.incrementAndGet();
+    }
+}
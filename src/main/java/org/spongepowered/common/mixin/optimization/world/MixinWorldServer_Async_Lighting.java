@@ -24,7 +24,8 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -33,6 +34,9 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -40,16 +44,23 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.lighting.AsyncLightingEngine;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
+import org.spongepowered.common.world.lighting.LightingContext;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = WorldServer.class)
 public abstract class MixinWorldServer_Async_Lighting extends MixinWorld implements IMixinWorldServer {
 
-    private ExecutorService lightExecutorService =
-            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private static final EnumSkyBlock[] LIGHT_TYPES = EnumSkyBlock.values();
+
+    private final AsyncLightingEngine lightingEngine =
+            new AsyncLightingEngine(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingThreads());
+    // The light updates collected during the tick, only accessed on the main thread
+    private final Long2ObjectLinkedOpenHashMap<LightUpdateBatch> pendingLightUpdates = new Long2ObjectLinkedOpenHashMap<>();
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -57,34 +68,35 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
     }
 
     @Override
-    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
+    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors,
+            LightingContext context) {
         // Sponge - This check is not needed as neighbors are checked in updateLightAsync
 //        if (!this.isAreaLoaded(pos, 17, false)) {
 //            return false;
 //        } else {
-        final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
+        final int[] lightUpdateBlockList = context.queue; // Sponge - use the queue of the lighting worker
         int i = 0;
         int j = 0;
         //this.profiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
-        int k = this.getLightForAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
-        int l = this.getRawBlockLightAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
+        int k = this.getLightForAsync(lightType, pos, currentChunk, neighbors, context); // Sponge - use thread safe method
+        int l = this.getRawBlockLightAsync(lightType, pos, currentChunk, neighbors, context); // Sponge - use thread safe method
         int i1 = pos.getX();
         int j1 = pos.getY();
         int k1 = pos.getZ();
 
         if (l > k) {
-            this.lightUpdateBlockList[j++] = 133152;
+            lightUpdateBlockList[j++] = 133152;
         } else if (l < k) {
-            this.lightUpdateBlockList[j++] = 133152 | k << 18;
+            lightUpdateBlockList[j++] = 133152 | k << 18;
 
             while (i < j) {
-                int l1 = this.lightUpdateBlockList[i++];
+                int l1 = lightUpdateBlockList[i++];
                 int i2 = (l1 & 63) - 32 + i1;
                 int j2 = (l1 >> 6 & 63) - 32 + j1;
                 int k2 = (l1 >> 12 & 63) - 32 + k1;
                 int l2 = l1 >> 18 & 15;
-                BlockPos blockpos = new BlockPos(i2, j2, k2);
-                int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
+                BlockPos blockpos = context.pos.setPos(i2, j2, k2); // Sponge - use mutable position of the lighting worker
+                int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors, context); // Sponge - use thread safe method
 
                 if (i3 == l2) {
                     this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors); // Sponge - use thread safe method
@@ -95,7 +107,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                         int l3 = MathHelper.abs(k2 - k1);
 
                         if (j3 + k3 + l3 < 17) {
-                            BlockPos.PooledMutableBlockPos blockpos$pooledmutableblockpos = BlockPos.PooledMutableBlockPos.retain();
+                            BlockPos.MutableBlockPos blockpos$pooledmutableblockpos = context.neighborPos; // Sponge - use mutable position of the lighting worker
 
                             for (EnumFacing enumfacing : EnumFacing.values()) {
                                 int i4 = i2 + enumfacing.getFrontOffsetX();
@@ -108,15 +120,13 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                                     continue;
                                 }
                                 int l4 = Math.max(1, pooledChunk.getBlockState(blockpos$pooledmutableblockpos).getLightOpacity());
-                                i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
+                                i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors, context);
                                 // Sponge end
 
-                                if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                    this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                    lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
                                 }
                             }
-
-                            blockpos$pooledmutableblockpos.release();
                         }
                     }
                 }
@@ -129,13 +139,13 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
         //this.profiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
 
         while (i < j) {
-            int i5 = this.lightUpdateBlockList[i++];
+            int i5 = lightUpdateBlockList[i++];
             int j5 = (i5 & 63) - 32 + i1;
             int k5 = (i5 >> 6 & 63) - 32 + j1;
             int l5 = (i5 >> 12 & 63) - 32 + k1;
-            BlockPos blockpos1 = new BlockPos(j5, k5, l5);
-            int i6 = this.getLightForAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
-            int j6 = this.getRawBlockLightAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
+            BlockPos blockpos1 = context.pos.setPos(j5, k5, l5); // Sponge - use mutable position of the lighting worker
+            int i6 = this.getLightForAsync(lightType, blockpos1, currentChunk, neighbors, context); // Sponge - use thread safe method
+            int j6 = this.getRawBlockLightAsync(lightType, blockpos1, currentChunk, neighbors, context); // Sponge - use thread safe method
 
             if (j6 != i6) {
                 this.setLightForAsync(lightType, blockpos1, j6, currentChunk, neighbors); // Sponge - use thread safe method
@@ -144,32 +154,33 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                     int k6 = Math.abs(j5 - i1);
                     int l6 = Math.abs(k5 - j1);
                     int i7 = Math.abs(l5 - k1);
-                    boolean flag = j < this.lightUpdateBlockList.length - 6;
+                    boolean flag = j < lightUpdateBlockList.length - 6;
 
                     if (k6 + l6 + i7 < 17 && flag) {
-                        // Sponge start - use thread safe method getLightForAsync
-                        if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        // Sponge start - use thread safe method getLightForAsync and the mutable neighbor position
+                        final BlockPos.MutableBlockPos neighborPos = context.neighborPos;
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5 - 1, k5, l5), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
-                        if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5 + 1, k5, l5), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
-                        if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5 - 1, l5), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
-                        if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5 + 1, l5), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
-                        if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5, l5 - 1), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
                         }
 
-                        if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5, l5 + 1), currentChunk, neighbors, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                         }
                         // Sponge end
                     }
@@ -177,15 +188,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             }
         }
 
-        // Sponge start - Asynchronous light updates
-        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
-            spongeChunk.getPendingLightUpdates().decrementAndGet();
-            for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-                neighbor.getPendingLightUpdates().decrementAndGet();
-            }
-        }
-        // Sponge end
+        // Sponge - pending light updates are tracked per batch, see submitLightUpdateBatch
         //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
         return true;
 //        }
@@ -193,11 +196,40 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
 
     @Override
     public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos) {
+        // Sponge start - collect the updates of each chunk section until the batches are flushed
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            // Updates from other threads are not collected
+            final LightUpdateBatch batch = this.createLightUpdateBatch(pos);
+            if (batch == null) {
+                return false;
+            }
+            batch.add(lightType, pos);
+            this.submitLightUpdateBatch(batch);
+            return true;
+        }
+
+        final long sectionKey = LightUpdateBatch.getSectionKey(pos);
+        LightUpdateBatch batch = this.pendingLightUpdates.get(sectionKey);
+        if (batch == null) {
+            batch = this.createLightUpdateBatch(pos);
+            if (batch == null) {
+                return false;
+            }
+            this.pendingLightUpdates.put(sectionKey, batch);
+        }
+        batch.add(lightType, pos);
+        // Sponge end
+
+        return true;
+    }
+
+    @Nullable
+    private LightUpdateBatch createLightUpdateBatch(BlockPos pos) {
         final net.minecraft.world.chunk.Chunk chunk =
                 ((IMixinChunkProviderServer) this.chunkProvider).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
         IMixinChunk spongeChunk = (IMixinChunk) chunk;
         if (chunk == null || chunk.unloadQueued || !spongeChunk.areNeighborsLoaded()) {
-            return false;
+            return null;
         }
 
         spongeChunk.getPendingLightUpdates().incrementAndGet();
@@ -228,16 +260,42 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos) {
             neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
         }
 
-        this.lightExecutorService.execute(() -> {
-            this.checkLightAsync(lightType, pos, chunk, neighbors);
-        });
+        return new LightUpdateBatch(chunk, neighbors);
+    }
 
-        return true;
+    @Inject(method = "tick", at = {@At("HEAD"), @At("RETURN")})
+    private void onTickFlushLightUpdates(CallbackInfo ci) {
+        if (this.pendingLightUpdates.isEmpty()) {
+            return;
+        }
+        for (LightUpdateBatch batch : this.pendingLightUpdates.values()) {
+            this.submitLightUpdateBatch(batch);
+        }
+        this.pendingLightUpdates.clear();
+    }
+
+    private void submitLightUpdateBatch(LightUpdateBatch batch) {
+        final Chunk chunk = batch.getChunk();
+        final List<Chunk> neighbors = batch.getNeighbors();
+        this.lightingEngine.submit(chunk, neighbors, context -> {
+            for (EnumSkyBlock lightType : LIGHT_TYPES) {
+                final LongIterator iterator = batch.getUpdates(lightType).iterator();
+                while (iterator.hasNext()) {
+                    this.checkLightAsync(lightType, LightUpdateBatch.unpack(context.origin, iterator.nextLong()), chunk, neighbors, context);
+                }
+            }
+
+            ((IMixinChunk) chunk).getPendingLightUpdates().decrementAndGet();
+            for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+                final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
+                neighbor.getPendingLightUpdates().decrementAndGet();
+            }
+        });
     }
 
     @Override
-    public ExecutorService getLightingExecutor() {
-        return this.lightExecutorService;
+    public AsyncLightingEngine getLightingEngine() {
+        return this.lightingEngine;
     }
 
     // Thread safe methods to retrieve a chunk during async light updates
@@ -261,9 +319,9 @@ public Chunk getLightChunk(BlockPos pos, Chunk currentChunk, List<Chunk> neighbo
         return null;
     }
 
-    private int getLightForAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
+    private int getLightForAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors, LightingContext context) {
         if (pos.getY() < 0) {
-            pos = new BlockPos(pos.getX(), 0, pos.getZ());
+            pos = context.clampedPos.setPos(pos.getX(), 0, pos.getZ());
         }
         if (!((IMixinBlockPos) pos).isValidPosition()) {
             return lightType.defaultLightValue;
@@ -277,7 +335,7 @@ private int getLightForAsync(EnumSkyBlock lightType, BlockPos pos, Chunk current
         return chunk.getLightFor(lightType, pos);
     }
 
-    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
+    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors, LightingContext context) {
         final Chunk chunk = getLightChunk(pos, currentChunk, neighbors);
         if (chunk == null || chunk.unloadQueued) {
             return lightType.defaultLightValue;
@@ -304,8 +362,9 @@ private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk cu
                 return i;
             } else {
                 for (EnumFacing enumfacing : EnumFacing.values()) {
-                    BlockPos blockpos = pos.offset(enumfacing);
-                    int k = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors) - j;
+                    BlockPos blockpos = context.rawLightPos.setPos(pos.getX() + enumfacing.getFrontOffsetX(),
+                            pos.getY() + enumfacing.getFrontOffsetY(), pos.getZ() + enumfacing.getFrontOffsetZ());
+                    int k = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors, context) - j;
 
                     if (k > i) {
                         i = k;
@@ -27,6 +27,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -49,6 +51,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -68,9 +71,13 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 public class EntityActivationRange {
 
     private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
@@ -81,13 +88,6 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     @SuppressWarnings("serial") static Map<Byte, Integer> maxActivationRanges = new HashMap<Byte, Integer>() {
 
         {
@@ -216,116 +216,134 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>Every loaded chunk in range of a player is only visited once, its
+     * entities are tested against the players whose maximum activation range
+     * covers the chunk.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        for (EntityPlayer player : world.playerEntities) {
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
 
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        final Long2ObjectMap<ActivationChunk> chunks = new Long2ObjectOpenHashMap<>();
+        final List<ActivationChunk> loadedChunks = new ArrayList<>();
 
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+
+            int i = MathHelper.floor((playerBB.minX - maxRange) / 16.0D);
+            int j = MathHelper.floor((playerBB.maxX + maxRange) / 16.0D);
+            int k = MathHelper.floor((playerBB.minZ - maxRange) / 16.0D);
+            int l = MathHelper.floor((playerBB.maxZ + maxRange) / 16.0D);
 
             for (int i1 = i; i1 <= j; ++i1) {
                 for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
+                    final long key = ChunkPos.asLong(i1, j1);
+                    ActivationChunk activationChunk = chunks.get(key);
+                    if (activationChunk == null) {
+                        activationChunk = new ActivationChunk(chunkProvider.getLoadedChunkWithoutMarkingActive(i1, j1));
+                        chunks.put(key, activationChunk);
+                        if (activationChunk.chunk != null) {
+                            loadedChunks.add(activationChunk);
+                        }
                     }
+                    activationChunk.players.add(playerBB);
                 }
             }
         }
+
+        final int parallelThreshold = ((IMixinWorldServer) world).getActiveConfig().getConfig().getEntityActivationRange().getParallelThreshold();
+        if (parallelThreshold > 0 && loadedChunks.size() >= parallelThreshold) {
+            // Activation only writes the activated tick of the entities in the
+            // chunk, so chunks can safely be processed at the same time.
+            loadedChunks.parallelStream().forEach(activationChunk -> activateChunkEntities(activationChunk, currentTick));
+        } else {
+            for (ActivationChunk activationChunk : loadedChunks) {
+                activateChunkEntities(activationChunk, currentTick);
+            }
+        }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
-     * @param chunk Chunk to check for activation
+     * @param activationChunk Chunk to check for activation
+     * @param currentTick The current tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(ActivationChunk activationChunk, long currentTick) {
+        final Chunk chunk = activationChunk.chunk;
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
-            for (Object o : chunk.getEntityLists()[i]) {
-                Entity entity = (Entity) o;
+            for (Entity entity : chunk.getEntityLists()[i]) {
+                IModData_Activation spongeEntity = (IModData_Activation) entity;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (type == EntityTypes.UNKNOWN) {
-                    ((IModData_Activation) entity).setActivatedTick(currentTick);
+                    spongeEntity.setActivatedTick(currentTick);
                     continue;
                 }
 
-                if (currentTick > ((IModData_Activation) entity).getActivatedTick()) {
-                    if (((IModData_Activation) entity).getDefaultActivationState()) {
-                        ((IModData_Activation) entity).setActivatedTick(currentTick);
+                if (currentTick > spongeEntity.getActivatedTick()) {
+                    if (spongeEntity.getDefaultActivationState()) {
+                        spongeEntity.setActivatedTick(currentTick);
                         continue;
                     }
 
-                    IModData_Activation spongeEntity = (IModData_Activation) entity;
                     // check if activation cache needs to be updated
                     if (spongeEntity.requiresActivationCacheRefresh()) {
                         EntityActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
                     // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
-
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                    final int bbActivationRange = spongeEntity.getActivationRange();
+                    final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                    for (AxisAlignedBB playerBB : activationChunk.players) {
+                        if (isInRange(entityBB, playerBB, bbActivationRange)) {
+                            spongeEntity.setActivatedTick(currentTick);
                             break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                        }
                     }
                 }
             }
         }
     }
 
+    /**
+     * Checks whether the entity intersects the player bounding box grown by
+     * the activation range, without creating a new AABB.
+     */
+    private static boolean isInRange(AxisAlignedBB entityBB, AxisAlignedBB playerBB, int range) {
+        return entityBB.minX < playerBB.maxX + range && entityBB.maxX > playerBB.minX - range
+                && entityBB.minY < playerBB.maxY + 256 && entityBB.maxY > playerBB.minY - 256
+                && entityBB.minZ < playerBB.maxZ + range && entityBB.maxZ > playerBB.minZ - range;
+    }
+
+    /**
+     * A chunk in range of at least one player, together with the bounding
+     * boxes of all the players in range.
+     */
+    private static final class ActivationChunk {
+
+        @Nullable final Chunk chunk;
+        final List<AxisAlignedBB> players = new ArrayList<>(4);
+
+        ActivationChunk(@Nullable Chunk chunk) {
+            this.chunk = chunk;
+        }
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
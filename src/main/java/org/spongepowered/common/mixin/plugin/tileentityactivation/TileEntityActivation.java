@@ -26,8 +26,8 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
@@ -46,8 +46,9 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
-import org.spongepowered.common.util.VecHelper;
 
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class TileEntityActivation {
@@ -107,58 +108,103 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
     * Find what tileentities are in range of the players in the world and set
     * active if in range.
     *
+    * <p>The positions of all players are resolved once, after which the
+    * tileentities of every watched chunk are checked in a single pass against
+    * the players watching that chunk.</p>
+    *
     * @param world The world to perform activation checks in
     */
     public static void activateTileEntities(WorldServer world) {
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
+
+        final ActivationGrid grid = new ActivationGrid(world.playerEntities);
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
-            for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued) {
-                    continue;
-                }
-
-                activateChunkTileEntities(player, chunk);
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (chunk == null || chunk.unloadQueued || playerChunkMapEntry.players.isEmpty() || chunk.getTileEntityMap().isEmpty()) {
+                continue;
             }
+
+            activateChunkTileEntities(grid.getWatcherPositions(playerChunkMapEntry.players), chunk, currentTick);
         }
     }
 
-
     /**
      * Checks for the activation state of all tileentities in this chunk.
      *
+     * @param watchers The packed block positions of the players watching the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current tick
      */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
-        final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
-        final long currentTick = SpongeImpl.getServer().getTickCounter();
-        for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
-            final TileEntity tileEntity = mapEntry.getValue();
-            if (!(tileEntity instanceof ITickable) || ((IModData_Activation) tileEntity).getActivatedTick() == currentTick) {
-                // already activated
+    private static void activateChunkTileEntities(int[] watchers, Chunk chunk, long currentTick) {
+        for (TileEntity tileEntity : chunk.getTileEntityMap().values()) {
+            if (!(tileEntity instanceof ITickable)) {
                 continue;
             }
 
-            final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
-            if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
-                if (((IModData_Activation) tileEntity).getDefaultActivationState()) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+            final IModData_Activation spongeEntity = (IModData_Activation) tileEntity;
+            if (currentTick > spongeEntity.getActivatedTick()) {
+                if (spongeEntity.getDefaultActivationState()) {
+                    spongeEntity.setActivatedTick(currentTick);
                     continue;
                 }
 
-                IModData_Activation spongeEntity = (IModData_Activation) tileEntity;
                 // check if activation cache needs to be updated
                 if (spongeEntity.requiresActivationCacheRefresh()) {
                     TileEntityActivation.initializeTileEntityActivationState(tileEntity);
                     spongeEntity.requiresActivationCacheRefresh(false);
                 }
 
-                int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
-                int blockDistance = Math.round(tilePos.distance(playerPos));
-                if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                // The distance is rounded to the nearest block, so compare
+                // the squared distance against the range plus half a block
+                final double range = spongeEntity.getActivationRange() + 0.5D;
+                final double rangeSquared = range * range;
+                final BlockPos tilePos = tileEntity.getPos();
+                for (int i = 0; i < watchers.length; i += 3) {
+                    final double dx = tilePos.getX() - watchers[i];
+                    final double dy = tilePos.getY() - watchers[i + 1];
+                    final double dz = tilePos.getZ() - watchers[i + 2];
+                    if (dx * dx + dy * dy + dz * dz < rangeSquared) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The block positions of all players in a world, resolved once per tick.
+     */
+    private static final class ActivationGrid {
+
+        private final Map<EntityPlayer, int[]> positions = new IdentityHashMap<>();
+
+        ActivationGrid(List<EntityPlayer> players) {
+            for (EntityPlayer player : players) {
+                final BlockPos pos = player.getPosition();
+                this.positions.put(player, new int[] {pos.getX(), pos.getY(), pos.getZ()});
+            }
+        }
+
+        int[] getWatcherPositions(List<EntityPlayerMP> watchers) {
+            final int[] packed = new int[watchers.size() * 3];
+            int size = 0;
+            for (EntityPlayer watcher : watchers) {
+                int[] pos = this.positions.get(watcher);
+                if (pos == null) {
+                    // Watching from another world, should not happen
+                    final BlockPos blockPos = watcher.getPosition();
+                    pos = new int[] {blockPos.getX(), blockPos.getY(), blockPos.getZ()};
+                    this.positions.put(watcher, pos);
                 }
+                System.arraycopy(pos, 0, packed, size, 3);
+                size += 3;
             }
+            return packed;
         }
     }
 
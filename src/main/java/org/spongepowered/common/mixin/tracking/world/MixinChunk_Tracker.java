@@ -24,8 +24,6 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectArrayMap;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -58,8 +56,8 @@
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.common.world.BlockOwnerIndex;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -68,15 +66,6 @@
 @Mixin(value = net.minecraft.world.chunk.Chunk.class, priority = 1111)
 public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
 
-    private static final int NUM_XZ_BITS = 4;
-    private static final int NUM_SHORT_Y_BITS = 8;
-    private static final int NUM_INT_Y_BITS = 24;
-    private static final int Y_SHIFT = NUM_XZ_BITS;
-    private static final int Z_SHORT_SHIFT = Y_SHIFT + NUM_SHORT_Y_BITS;
-    private static final int Z_INT_SHIFT = Y_SHIFT + NUM_INT_Y_BITS;
-    private static final short XZ_MASK = 0xF;
-    private static final short Y_SHORT_MASK = 0xFF;
-    private static final int Y_INT_MASK = 0xFFFFFF;
     private SpongeProfileManager spongeProfileManager;
     private UserStorageService userStorageService;
 
@@ -88,8 +77,7 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     @Shadow @Final private int[] heightMap;
     @Shadow private boolean dirty;
 
-    public Map<Integer, PlayerTracker> trackedIntBlockPositions = new Int2ObjectArrayMap<>();
-    public Map<Short, PlayerTracker> trackedShortBlockPositions = new Short2ObjectArrayMap<>();
+    private BlockOwnerIndex blockOwnerIndex = new BlockOwnerIndex();
 
     @Final // need this constructor to never be overwritten by anything.
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"), remap = false)
@@ -122,130 +110,63 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
 
         final IMixinWorldInfo worldInfo = (IMixinWorldInfo) this.world.getWorldInfo();
         final int indexForUniqueId = worldInfo.getIndexForUniqueId(user.getUniqueId());
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+        final int key = BlockOwnerIndex.key(pos);
+        if (trackerType == PlayerTracker.Type.OWNER) {
+            // A new owner is also the notifier of an already tracked position
+            final int notifierIndex = this.blockOwnerIndex.contains(key) ? indexForUniqueId : BlockOwnerIndex.NO_INDEX;
+            this.blockOwnerIndex.set(key, indexForUniqueId, notifierIndex);
         } else {
-            int blockPos = blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+            this.blockOwnerIndex.setNotifier(key, indexForUniqueId);
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return this.trackedIntBlockPositions;
+    public BlockOwnerIndex getBlockOwnerIndex() {
+        return this.blockOwnerIndex;
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return this.trackedShortBlockPositions;
+    public void setBlockOwnerIndex(BlockOwnerIndex index) {
+        this.blockOwnerIndex = index;
     }
 
     @Override
     public Optional<User> getBlockOwner(BlockPos pos) {
-        final int key = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.ownerIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(key);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
-            }
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                Optional<UUID> uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(shortTracker.ownerIndex));
-                if (uuid.isPresent()) {
-                    UUID userUniqueId = uuid.get();
-                    // get player if online
-                    EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                    if (player != null) {
-                        return Optional.of((User) player);
-                    }
-                    if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                        this.trackedShortBlockPositions.remove(shortKey);
-                        return Optional.empty();
-                    }
-                    // player is not online, get or create user from storage
-                    return this.getUserFromId(userUniqueId);
-                }
-            }
+        if (!this.blockOwnerIndex.hasTrackedBlocks(pos.getY() >> 4)) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
+        final int key = BlockOwnerIndex.key(pos);
+        return this.getTrackedUser(key, this.blockOwnerIndex.getOwner(key));
     }
 
     @Override
     public Optional<User> getBlockNotifier(BlockPos pos) {
-        final int intKey = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(intKey);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
-            }
-        } else if (this.trackedShortBlockPositions.get(blockPosToShort(pos)) != null) {
-            short blockPos = blockPosToShort(pos);
-            PlayerTracker tracker = this.trackedShortBlockPositions.get(blockPos);
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(tracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedShortBlockPositions.remove(blockPos);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
-            }
+        if (!this.blockOwnerIndex.hasTrackedBlocks(pos.getY() >> 4)) {
+            return Optional.empty();
         }
+        final int key = BlockOwnerIndex.key(pos);
+        return this.getTrackedUser(key, this.blockOwnerIndex.getNotifier(key));
+    }
 
-        return Optional.empty();
+    private Optional<User> getTrackedUser(int key, int uniqueIdIndex) {
+        if (uniqueIdIndex == BlockOwnerIndex.NO_INDEX) {
+            return Optional.empty();
+        }
+        UUID userUniqueId = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(uniqueIdIndex)).orElse(null);
+        if (userUniqueId == null) {
+            return Optional.empty();
+        }
+        // get player if online
+        EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
+        if (player != null) {
+            return Optional.of((User) player);
+        }
+        if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
+            this.blockOwnerIndex.remove(key);
+            return Optional.empty();
+        }
+        // player is not online, get or create user from storage
+        return this.getUserFromId(userUniqueId);
     }
 
     private Optional<User> getUserFromId(UUID uuid) {
@@ -269,74 +190,21 @@ private Optional<User> getUserFromId(UUID uuid) {
     // Special setter used by API
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                              ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                            ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+        if (uuid == null && !this.blockOwnerIndex.hasTrackedBlocks(pos.getY() >> 4)) {
+            return;
         }
+        this.blockOwnerIndex.setNotifier(BlockOwnerIndex.key(pos), uuid == null ? BlockOwnerIndex.NO_INDEX
+                : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
     // Special setter used by API
     @Override
     public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+        if (uuid == null && !this.blockOwnerIndex.hasTrackedBlocks(pos.getY() >> 4)) {
+            return;
         }
-    }
-
-    @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-        this.trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
-        this.trackedShortBlockPositions = trackedPositions;
-    }
-
-    /**
-     * Modifies bits in an integer.
-     *
-     * @param num Integer to modify
-     * @param data Bits of data to add
-     * @param which Index of nibble to start at
-     * @param bitsToReplace The number of bits to replace starting from nibble index
-     * @return The modified integer
-     */
-    private int setNibble(int num, int data, int which, int bitsToReplace) {
-        return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
+        this.blockOwnerIndex.setOwner(BlockOwnerIndex.key(pos), uuid == null ? BlockOwnerIndex.NO_INDEX
+                : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
     @Inject(method = "onLoad", at = @At("HEAD"))
@@ -357,44 +225,4 @@ private void endLoad(CallbackInfo callbackInfo) {
         }
     }
 
-    /**
-     * Serialize this BlockPos into a short value
-     */
-    private short blockPosToShort(BlockPos pos) {
-        short serialized = (short) setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = (short) setNibble(serialized, pos.getY() & Y_SHORT_MASK, 1, NUM_SHORT_Y_BITS);
-        serialized = (short) setNibble(serialized, pos.getZ() & XZ_MASK, 3, NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Create a BlockPos from a serialized chunk position
-     */
-    private BlockPos blockPosFromShort(short serialized) {
-        int x = this.x * 16 + (serialized & XZ_MASK);
-        int y = (serialized >> Y_SHIFT) & Y_SHORT_MASK;
-        int z = this.z * 16 + ((serialized >> Z_SHORT_SHIFT) & XZ_MASK);
-        return new BlockPos(x, y, z);
-    }
-
-    /**
-     * Serialize this BlockPos into an int value
-     */
-    private int blockPosToInt(BlockPos pos) {
-        int serialized = setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = setNibble(serialized, pos.getY() & Y_INT_MASK, 1, NUM_INT_Y_BITS);
-        serialized = setNibble(serialized, pos.getZ() & XZ_MASK, 7, NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Create a BlockPos from a serialized chunk position
-     */
-    private BlockPos blockPosFromInt(int serialized) {
-        int x = this.x * 16 + (serialized & XZ_MASK);
-        int y = (serialized >> Y_SHIFT) & Y_INT_MASK;
-        int z = this.z * 16 + ((serialized >> Z_INT_SHIFT) & XZ_MASK);
-        return new BlockPos(x, y, z);
-    }
-
 }
@@ -129,7 +129,7 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
                 }
                 PhaseContext context = EMPTY_INVALID;
                 if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
-                    context = PhaseContext.start()
+                    context = PhaseContext.acquire()
                             .add(NamedCause.source(packetPlayer))
                             .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
                             .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
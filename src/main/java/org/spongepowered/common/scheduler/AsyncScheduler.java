@@ -24,13 +24,24 @@
  */
 package org.spongepowered.common.scheduler;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,22 +54,56 @@ public class AsyncScheduler extends SchedulerBase {
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The bounded thread pooling executor of asynchronous tasks.
+    private final ExecutorService executor;
+    // The per plugin limits and metrics of the tasks run on the executor
+    private final Map<PluginContainer, PluginTaskQueue> pluginQueues = new ConcurrentHashMap<>();
+    private final AsyncSchedulerCategory config;
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
 
+        this.config = SpongeImpl.getGlobalConfig().getConfig().getAsyncScheduler();
+        this.executor = createExecutor(this.config);
+
         Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
         thread.setDaemon(true);
         thread.start();
     }
 
+    private static ExecutorService createExecutor(AsyncSchedulerCategory config) {
+        final int threads = Math.max(1, config.getMaxThreads());
+        if (config.useWorkStealing()) {
+            final AtomicInteger threadId = new AtomicInteger();
+            return new ForkJoinPool(threads, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge Async Scheduler Worker #" + threadId.incrementAndGet());
+                return thread;
+            }, null, true);
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("Sponge Async Scheduler Worker #%d")
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     ExecutorService getExecutor() {
         return this.executor;
     }
 
+    /**
+     * Gets the task queues of all the plugins which scheduled asynchronous
+     * tasks, used to export their metrics.
+     *
+     * @return The plugin task queues
+     */
+    public Collection<PluginTaskQueue> getPluginQueues() {
+        return Collections.unmodifiableCollection(this.pluginQueues.values());
+    }
+
     private void mainLoop() {
         this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
@@ -130,7 +175,42 @@ protected void finallyPostTick() {
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        // Queued tasks don't count towards the wait timeout until a thread picks them up
+        if (!task.compareAndSetState(ScheduledTask.ScheduledTaskState.SWITCHING, ScheduledTask.ScheduledTaskState.QUEUED)) {
+            // Cancelled meanwhile
+            return;
+        }
+        this.pluginQueues.computeIfAbsent(task.getOwner(), plugin -> new PluginTaskQueue(plugin, this.executor, this.config))
+                .submit(() -> {
+                    if (task.period > 0 && !onTaskStarted(task)) {
+                        return;
+                    }
+                    runnable.run();
+                }, () -> onTaskRejected(task));
+    }
+
+    private boolean onTaskStarted(ScheduledTask task) {
+        // The task is active again and its next execution counts from the
+        // timestamp it was started at, wake up the loop to wait for it
+        this.lock.lock();
+        try {
+            if (!task.compareAndSetState(ScheduledTask.ScheduledTaskState.QUEUED, ScheduledTask.ScheduledTaskState.RUNNING)) {
+                // Cancelled while queued
+                return false;
+            }
+            this.condition.signalAll();
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void onTaskRejected(ScheduledTask task) {
+        // Repeating tasks skip this execution and try again after their period,
+        // instead of staying queued forever. One shot tasks are gone already.
+        if (task.period > 0) {
+            task.compareAndSetState(ScheduledTask.ScheduledTaskState.QUEUED, ScheduledTask.ScheduledTaskState.RUNNING);
+        }
     }
 
     @Override
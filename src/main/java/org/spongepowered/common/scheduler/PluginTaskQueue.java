@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the amount of asynchronous tasks a single plugin can run and queue
+ * at the same time, and collects the metrics of those tasks.
+ */
+public final class PluginTaskQueue {
+
+    private final PluginContainer plugin;
+    private final Executor executor;
+    private final int maxConcurrentTasks;
+    private final int maxQueuedTasks;
+    private final AsyncSchedulerCategory.RejectionPolicy rejectionPolicy;
+
+    // Guarded by this
+    private final Deque<QueuedTask> queue = new ArrayDeque<>();
+    private int runningTasks;
+    private boolean rejectionLogged;
+
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder runTime = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+
+    PluginTaskQueue(PluginContainer plugin, Executor executor, AsyncSchedulerCategory config) {
+        this.plugin = plugin;
+        this.executor = executor;
+        this.maxConcurrentTasks = config.getMaxConcurrentTasksPerPlugin();
+        this.maxQueuedTasks = config.getMaxQueuedTasksPerPlugin();
+        this.rejectionPolicy = config.getRejectionPolicy();
+    }
+
+    /**
+     * Runs the task on the executor once the plugin is below its concurrency
+     * limit. If the queue of the plugin is full, either the task or the
+     * oldest queued task is dropped depending on the rejection policy, and
+     * the rejection handler of the dropped task is called.
+     *
+     * @param runnable The task to run
+     * @param rejectionHandler Called if the task is dropped
+     */
+    void submit(Runnable runnable, Runnable rejectionHandler) {
+        final QueuedTask task = new QueuedTask(runnable, rejectionHandler, System.nanoTime());
+        QueuedTask rejected = null;
+        boolean start = false;
+        boolean logRejection = false;
+        synchronized (this) {
+            if (this.maxConcurrentTasks <= 0 || this.runningTasks < this.maxConcurrentTasks) {
+                this.runningTasks++;
+                start = true;
+            } else if (this.maxQueuedTasks > 0 && this.queue.size() >= this.maxQueuedTasks) {
+                if (this.rejectionPolicy == AsyncSchedulerCategory.RejectionPolicy.DISCARD_OLDEST) {
+                    rejected = this.queue.pollFirst();
+                    this.queue.addLast(task);
+                } else {
+                    rejected = task;
+                }
+                logRejection = !this.rejectionLogged;
+                this.rejectionLogged = true;
+            } else {
+                this.queue.addLast(task);
+            }
+        }
+
+        this.submittedTasks.increment();
+        if (rejected != null) {
+            this.rejectedTasks.increment();
+            if (logRejection) {
+                SpongeImpl.getLogger().warn("Plugin {} exceeded its limit of {} queued asynchronous tasks, tasks are being discarded.",
+                        this.plugin.getId(), this.maxQueuedTasks);
+            }
+            rejected.rejectionHandler.run();
+        }
+        if (start) {
+            this.executor.execute(() -> run(task));
+        }
+    }
+
+    private void run(QueuedTask task) {
+        final long start = System.nanoTime();
+        this.waitTime.add(start - task.submitTime);
+        try {
+            task.runnable.run();
+        } finally {
+            this.runTime.add(System.nanoTime() - start);
+            this.completedTasks.increment();
+
+            final QueuedTask next;
+            synchronized (this) {
+                next = this.queue.pollFirst();
+                if (next == null) {
+                    this.runningTasks--;
+                    this.rejectionLogged = false;
+                }
+            }
+            if (next != null) {
+                this.executor.execute(() -> run(next));
+            }
+        }
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    public synchronized int getQueuedTasks() {
+        return this.queue.size();
+    }
+
+    public synchronized int getRunningTasks() {
+        return this.runningTasks;
+    }
+
+    public long getSubmittedTasks() {
+        return this.submittedTasks.sum();
+    }
+
+    public long getRejectedTasks() {
+        return this.rejectedTasks.sum();
+    }
+
+    public long getCompletedTasks() {
+        return this.completedTasks.sum();
+    }
+
+    /**
+     * Gets the total time the tasks of this plugin were running.
+     *
+     * @return The run time in nanoseconds
+     */
+    public long getRunTime() {
+        return this.runTime.sum();
+    }
+
+    /**
+     * Gets the total time the tasks of this plugin waited before they were
+     * run.
+     *
+     * @return The wait time in nanoseconds
+     */
+    public long getWaitTime() {
+        return this.waitTime.sum();
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final Runnable rejectionHandler;
+        final long submitTime;
+
+        QueuedTask(Runnable runnable, Runnable rejectionHandler, long submitTime) {
+            this.runnable = runnable;
+            this.rejectionHandler = rejectionHandler;
+            this.submitTime = submitTime;
+        }
+    }
+
+}
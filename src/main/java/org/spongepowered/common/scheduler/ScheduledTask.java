@@ -35,12 +35,18 @@
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import javax.annotation.Nullable;
 
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
 public class ScheduledTask implements Task {
 
+    private static final AtomicReferenceFieldUpdater<ScheduledTask, ScheduledTaskState> STATE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ScheduledTask.class, ScheduledTaskState.class, "state");
+
     final long offset; //nanoseconds or ticks
     final long period; //nanoseconds or ticks
     final boolean delayIsTicks;
@@ -48,7 +54,9 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
-    private ScheduledTaskState state;
+    long queuedTimestamp; // the execution timestamp the task is ordered by while queued
+    @Nullable SchedulerBase scheduler; // the scheduler the task was added to
+    private volatile ScheduledTaskState state;
     private final UUID id;
     private final String name;
     private final TaskSynchronicity syncType;
@@ -65,6 +73,11 @@ public enum ScheduledTaskState {
          * In the process of switching to the running state.
          */
         SWITCHING(true),
+        /**
+         * Started, but waiting in the queue of its plugin for a thread. Not
+         * active, as the period only restarts once it actually runs.
+         */
+        QUEUED(false),
         /**
          * Has ran, and will continue to unless removed from the task map.
          */
@@ -133,6 +146,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -186,6 +202,36 @@ void setState(ScheduledTaskState state) {
         this.state = state;
     }
 
+    /**
+     * Sets the state if it's still the expected one, so that a concurrent
+     * {@link #cancel()} isn't overridden.
+     *
+     * @param expected The expected current state
+     * @param state The new state
+     * @return Whether the state was set
+     */
+    boolean compareAndSetState(ScheduledTaskState expected, ScheduledTaskState state) {
+        return STATE_UPDATER.compareAndSet(this, expected, state);
+    }
+
+    /**
+     * Sets the state to {@link ScheduledTaskState#RUNNING} unless the task
+     * was cancelled.
+     *
+     * @return Whether the task wasn't cancelled
+     */
+    boolean setRunning() {
+        while (true) {
+            final ScheduledTaskState state = this.state;
+            if (state == ScheduledTaskState.CANCELED) {
+                return false;
+            }
+            if (STATE_UPDATER.compareAndSet(this, state, ScheduledTaskState.RUNNING)) {
+                return true;
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return this.stringRepresentation;
@@ -77,9 +77,19 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.scheduler = this;
         this.taskMap.put(task.getUniqueId(), task);
     }
 
+    /**
+     * Called when a task of this scheduler is cancelled, from any thread.
+     * Cancelled tasks are removed once they are processed by default.
+     *
+     * @param task The cancelled task
+     */
+    protected void onTaskCancelled(ScheduledTask task) {
+    }
+
     /**
      * Removes the task from the task map.
      *
@@ -89,6 +99,16 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Gets whether the task is still present in the task map.
+     *
+     * @param task The task
+     * @return True if the task is still scheduled
+     */
+    protected boolean isScheduled(ScheduledTask task) {
+        return this.taskMap.containsKey(task.getUniqueId());
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -106,7 +126,7 @@ protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.processTasks();
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -114,6 +134,14 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    /**
+     * Processes the tasks which may be due. By default every task in the map
+     * is checked.
+     */
+    protected void processTasks() {
+        this.taskMap.values().forEach(this::processTask);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -141,16 +169,17 @@ protected void finallyPostTick() {
     protected void processTask(ScheduledTask task) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+        final ScheduledTask.ScheduledTaskState state = task.getState();
+        if (state == ScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
         long threshold = Long.MAX_VALUE;
         // Figure out if we start a delayed Task after threshold ticks or, start
         // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
+        if (state == ScheduledTask.ScheduledTaskState.WAITING) {
             threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
+        } else if (state == ScheduledTask.ScheduledTaskState.RUNNING) {
             threshold = task.period;
         }
         // This moment is 'now'
@@ -161,7 +190,10 @@ protected void processTask(ScheduledTask task) {
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
         if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+            if (!task.compareAndSetState(state, ScheduledTask.ScheduledTaskState.SWITCHING)) {
+                // Cancelled meanwhile, removed once processed again
+                return;
+            }
             task.setTimestamp(this.getTimestamp(task));
             startTask(task);
             // If task is one time shot, remove it from the map.
@@ -178,7 +210,10 @@ protected void processTask(ScheduledTask task) {
      */
     protected void startTask(final ScheduledTask task) {
         this.executeTaskRunnable(task, () -> {
-            task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            if (!task.setRunning()) {
+                // Cancelled before it got to run
+                return;
+            }
             if (!task.isAsynchronous()) {
                 CauseTracker.getInstance().getCurrentContext().activeContainer(task.getOwner());
             }
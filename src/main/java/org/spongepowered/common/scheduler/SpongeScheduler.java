@@ -37,6 +37,7 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.Functional;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
@@ -182,6 +183,16 @@ public void tickSyncScheduler() {
         this.syncScheduler.tick();
     }
 
+    /**
+     * Gets the task queues of the asynchronous scheduler for every plugin
+     * which scheduled asynchronous tasks.
+     *
+     * @return The plugin task queues
+     */
+    public Collection<PluginTaskQueue> getAsyncTaskQueues() {
+        return this.asyncScheduler.getPluginQueues();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
@@ -29,10 +29,28 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 public class SyncScheduler extends SchedulerBase {
 
+    // The interval in ticks in which cancelled tasks are purged from the queues,
+    // they are removed from the task map as soon as they are cancelled
+    private static final int PURGE_INTERVAL = 100;
+    private static final Comparator<ScheduledTask> QUEUE_ORDER = (a, b) -> Long.compare(a.queuedTimestamp, b.queuedTimestamp);
+
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // Tasks added since the last tick, may be added from any thread
+    private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Tasks ordered by their next execution, only accessed on the main thread
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(QUEUE_ORDER);
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(QUEUE_ORDER);
+    private final List<ScheduledTask> processedTasks = new ArrayList<>();
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -64,6 +82,66 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected void addTask(ScheduledTask task) {
+        super.addTask(task);
+        this.pendingTasks.add(task);
+    }
+
+    @Override
+    protected void onTaskCancelled(ScheduledTask task) {
+        // Queued tasks may not be due for a long time, don't keep them
+        // listed until then
+        this.removeTask(task);
+    }
+
+    /**
+     * Only processes the tasks which are due, instead of checking every
+     * scheduled task each tick.
+     */
+    @Override
+    protected void processTasks() {
+        ScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            this.enqueue(task);
+        }
+        if (this.counter % PURGE_INTERVAL == 0) {
+            this.purgeCancelledTasks(this.tickQueue);
+            this.purgeCancelledTasks(this.timeQueue);
+        }
+
+        this.processDueTasks(this.tickQueue, this.counter);
+        this.processDueTasks(this.timeQueue, System.nanoTime());
+
+        // Tasks are queued again after all due tasks are processed, a
+        // task can't be executed more than once per tick.
+        for (ScheduledTask processed : this.processedTasks) {
+            if (this.isScheduled(processed)) {
+                this.enqueue(processed);
+            }
+        }
+        this.processedTasks.clear();
+    }
+
+    private void processDueTasks(PriorityQueue<ScheduledTask> queue, long now) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null && task.queuedTimestamp <= now) {
+            queue.poll();
+            this.processTask(task);
+            this.processedTasks.add(task);
+        }
+    }
+
+    private void purgeCancelledTasks(PriorityQueue<ScheduledTask> queue) {
+        queue.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+    }
+
+    private void enqueue(ScheduledTask task) {
+        final boolean ticks = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.delayIsTicks : task.intervalIsTicks;
+        task.queuedTimestamp = task.nextExecutionTimestamp();
+        (ticks ? this.tickQueue : this.timeQueue).add(task);
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         CauseTracker.getInstance().switchToPhase(PluginPhase.State.SCHEDULED_TASK, PhaseContext.start()
@@ -57,7 +57,9 @@ protected DataFactoryCollection(String identifier, SpongePermissionService servi
     public SpongeSubject get(String identifier) {
         checkNotNull(identifier, "identifier");
         if (!this.subjects.containsKey(identifier)) {
-            this.subjects.putIfAbsent(identifier, new DataFactorySubject(identifier, this.dataFactory.apply(identifier)));
+            if (this.subjects.putIfAbsent(identifier, new DataFactorySubject(identifier, this.dataFactory.apply(identifier))) == null) {
+                invalidatePermissionIndex();
+            }
         }
         return this.subjects.get(identifier);
     }
@@ -103,8 +105,8 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected Tristate resolvePermissionValue(String permission) {
+            Tristate ret = super.resolvePermissionValue(permission);
 
             if (ret == Tristate.UNDEFINED) {
                 ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), permission);
@@ -100,6 +100,12 @@ public Subject apply(Object input) {
                     }), Sponge.getGame().getServer().getOnlinePlayers()));*/
     }
 
+    @Override
+    protected boolean isPermissionIndexed() {
+        // Operators have all permissions without setting them
+        return false;
+    }
+
     public SpongePermissionService getService() {
         return this.service;
     }
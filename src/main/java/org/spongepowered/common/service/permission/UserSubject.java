@@ -118,8 +118,8 @@ public MemorySubjectData getSubjectData() {
     }
 
     @Override
-    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+    protected Tristate resolvePermissionValue(String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
         }
@@ -57,7 +57,16 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        final boolean result = super.setPermission(contexts, permission, value);
+        PermissionCache.invalidateAll();
+        return result;
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        final boolean result = super.clearPermissions();
+        PermissionCache.invalidateAll();
+        return result;
     }
 
     @Override
@@ -65,7 +74,9 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        final boolean result = super.clearPermissions(contexts);
+        PermissionCache.invalidateAll();
+        return result;
     }
 
     @Override
@@ -73,7 +84,9 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        final boolean result = super.addParent(contexts, parent);
+        PermissionCache.invalidateAll();
+        return result;
     }
 
     @Override
@@ -81,7 +94,16 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        final boolean result = super.removeParent(contexts, parent);
+        PermissionCache.invalidateAll();
+        return result;
+    }
+
+    @Override
+    public boolean clearParents() {
+        final boolean result = super.clearParents();
+        PermissionCache.invalidateAll();
+        return result;
     }
 
     @Override
@@ -89,6 +111,8 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        final boolean result = super.clearParents(contexts);
+        PermissionCache.invalidateAll();
+        return result;
     }
 }
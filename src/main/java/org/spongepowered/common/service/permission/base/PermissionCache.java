@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches the resolved permission values of a subject, including the values
+ * inherited from its parents and defaults.
+ *
+ * <p>All caches are stamped with a global version, which is incremented
+ * whenever permissions or parents of any subject change. A cache only
+ * serves values which were resolved at the current version, so a change to
+ * a subject or any of its ancestors is picked up by the next lookup.</p>
+ */
+public final class PermissionCache {
+
+    private static final int MAX_SIZE = 4096;
+    private static final AtomicLong version = new AtomicLong();
+
+    private volatile Values values = new Values(-1);
+
+    /**
+     * Gets the current version of all permissions and parents.
+     *
+     * @return The current version
+     */
+    static long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * Invalidates the resolved values of all subjects.
+     */
+    public static void invalidateAll() {
+        version.incrementAndGet();
+    }
+
+    public Tristate get(String permission, Function<String, Tristate> resolver) {
+        final long currentVersion = version.get();
+        Values values = this.values;
+        if (values.version != currentVersion || values.map.size() >= MAX_SIZE) {
+            this.values = values = new Values(currentVersion);
+        }
+        Tristate value = values.map.get(permission);
+        if (value == null) {
+            value = resolver.apply(permission);
+            // Don't cache values resolved while the permissions were changed
+            if (version.get() == currentVersion) {
+                values.map.put(permission, value);
+            }
+        }
+        return value;
+    }
+
+    private static final class Values {
+
+        final long version;
+        final Map<String, Tristate> map = new ConcurrentHashMap<>();
+
+        Values(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A reverse index of the subjects of a collection, from the permission
+ * nodes they set and from their parents to them.
+ *
+ * <p>A subject can only have a value for a permission if it sets the
+ * permission or one of its parent nodes itself, or if one of its direct
+ * parents has a value for it. Apart from values set by defaults, this
+ * limits the subjects to check for a permission to a few candidates.</p>
+ */
+final class PermissionIndex {
+
+    final long version;
+    private final Map<String, List<Subject>> byNode = new HashMap<>();
+    private final Map<Subject, List<Subject>> byParent = new HashMap<>();
+
+    PermissionIndex(long version, Iterable<Subject> subjects) {
+        this.version = version;
+        for (Subject subject : subjects) {
+            final SubjectData data = subject.getTransientSubjectData();
+            for (String node : data.getPermissions(SubjectData.GLOBAL_CONTEXT).keySet()) {
+                this.byNode.computeIfAbsent(node.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(subject);
+            }
+            for (Subject parent : data.getParents(SubjectData.GLOBAL_CONTEXT)) {
+                this.byParent.computeIfAbsent(parent, key -> new ArrayList<>()).add(subject);
+            }
+        }
+    }
+
+    /**
+     * Gets the subjects which may have a value for the given permission,
+     * ignoring defaults.
+     *
+     * @param permission The permission
+     * @return The candidate subjects
+     */
+    Set<Subject> getCandidates(String permission) {
+        final Set<Subject> candidates = new LinkedHashSet<>();
+        String node = permission.toLowerCase(Locale.ROOT);
+        while (true) {
+            final List<Subject> subjects = this.byNode.get(node);
+            if (subjects != null) {
+                candidates.addAll(subjects);
+            }
+            if (node.isEmpty()) {
+                break;
+            }
+            final int separator = node.lastIndexOf('.');
+            node = separator == -1 ? "" : node.substring(0, separator);
+        }
+        for (Map.Entry<Subject, List<Subject>> entry : this.byParent.entrySet()) {
+            if (entry.getKey().getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission) != Tristate.UNDEFINED) {
+                candidates.addAll(entry.getValue());
+            }
+        }
+        return candidates;
+    }
+}
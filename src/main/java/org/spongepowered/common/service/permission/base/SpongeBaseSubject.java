@@ -36,6 +36,8 @@
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    private final PermissionCache permissionCache = new PermissionCache();
+
     @Override
     public abstract MemorySubjectData getTransientSubjectData();
 
@@ -46,6 +48,17 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        return this.permissionCache.get(permission, this::resolvePermissionValue);
+    }
+
+    /**
+     * Resolves the value of the given permission, which is then cached until
+     * permissions or parents of any subject change.
+     *
+     * @param permission The permission
+     * @return The value of the permission
+     */
+    protected Tristate resolvePermissionValue(String permission) {
         return getDataPermissionValue(getTransientSubjectData(), permission);
     }
 
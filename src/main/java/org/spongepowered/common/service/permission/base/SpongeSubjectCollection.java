@@ -24,20 +24,28 @@
  */
 package org.spongepowered.common.service.permission.base;
 
+import com.google.common.collect.Maps;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
 
 public abstract class SpongeSubjectCollection implements SubjectCollection {
     private final String identifier;
     protected final SpongePermissionService service;
+    @Nullable private volatile PermissionIndex permissionIndex;
 
     protected SpongeSubjectCollection(String identifier, SpongePermissionService service) {
         this.identifier = identifier;
@@ -56,28 +64,80 @@ public SpongeSubject getDefaults() {
 
     @Override
     public Map<Subject, Boolean> getAllWithPermission(String permission) {
-        final Map<Subject, Boolean> ret = new HashMap<>();
-        for (Subject subj : getAllSubjects()) {
-            Tristate state = subj.getPermissionValue(subj.getActiveContexts(), permission);
-            if (state != Tristate.UNDEFINED) {
-                ret.put(subj, state.asBoolean());
-            }
-        }
-        return Collections.unmodifiableMap(ret);
+        return collectAllWithPermission(streamAllWithPermission(null, permission));
     }
 
     @Override
     public Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission) {
+        return collectAllWithPermission(streamAllWithPermission(contexts, permission));
+    }
+
+    private static Map<Subject, Boolean> collectAllWithPermission(Stream<Map.Entry<Subject, Boolean>> stream) {
         final Map<Subject, Boolean> ret = new HashMap<>();
-        for (Subject subj : getAllSubjects()) {
-            Tristate state = subj.getPermissionValue(contexts, permission);
-            if (state != Tristate.UNDEFINED) {
-                ret.put(subj, state.asBoolean());
-            }
-        }
+        stream.forEach(entry -> ret.put(entry.getKey(), entry.getValue()));
         return Collections.unmodifiableMap(ret);
     }
 
+    /**
+     * Lazily streams the subjects of this collection which have a value for
+     * the given permission.
+     *
+     * <p>Unless the permission is set by the defaults, only the subjects
+     * which set the permission themselves or inherit it from a parent are
+     * checked.</p>
+     *
+     * @param contexts The contexts to check in, or null to use the active
+     *     contexts of each subject
+     * @param permission The permission
+     * @return The subjects with their value of the permission
+     */
+    public Stream<Map.Entry<Subject, Boolean>> streamAllWithPermission(@Nullable Set<Context> contexts, String permission) {
+        final Iterable<Subject> subjects;
+        if (isPermissionIndexed() && !isDefaultPermission(permission)) {
+            subjects = getPermissionIndex().getCandidates(permission);
+        } else {
+            subjects = getAllSubjects();
+        }
+        return StreamSupport.stream(subjects.spliterator(), false)
+                .map(subject -> {
+                    final Tristate state = subject.getPermissionValue(contexts == null ? subject.getActiveContexts() : contexts, permission);
+                    return state == Tristate.UNDEFINED ? null : Maps.immutableEntry(subject, state.asBoolean());
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Gets whether the values of permissions can be looked up from the
+     * permissions and parents of the subjects of this collection.
+     *
+     * @return True if permissions can be looked up from the index
+     */
+    protected boolean isPermissionIndexed() {
+        return true;
+    }
+
+    /**
+     * Marks the permission index as outdated, for example after a subject
+     * was added to this collection.
+     */
+    protected void invalidatePermissionIndex() {
+        this.permissionIndex = null;
+    }
+
+    private boolean isDefaultPermission(String permission) {
+        return getDefaults().getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission) != Tristate.UNDEFINED
+                || this.service.getDefaults().getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission) != Tristate.UNDEFINED;
+    }
+
+    private PermissionIndex getPermissionIndex() {
+        final long version = PermissionCache.currentVersion();
+        PermissionIndex index = this.permissionIndex;
+        if (index == null || index.version != version) {
+            this.permissionIndex = index = new PermissionIndex(version, getAllSubjects());
+        }
+        return index;
+    }
+
     /**
      * Returns the subject specified. Will not return null.
      *
@@ -28,14 +28,17 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -101,14 +104,16 @@ public boolean delete(User user) {
     @Override
     public Collection<GameProfile> match(String lastKnownName) {
         lastKnownName = checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        Collection<GameProfile> allProfiles = UserDiscoverer.getAllProfiles();
-        Collection<GameProfile> matching = Sets.newHashSet();
-        for (GameProfile profile : allProfiles) {
-            if (profile.getName().isPresent() && profile.getName().get().startsWith(lastKnownName)) {
-                matching.add(profile);
-            }
+        Map<UUID, GameProfile> matching = Maps.newHashMap();
+        final String prefix = lastKnownName;
+        UserDiscoverer.streamAllProfiles()
+                .filter(profile -> profile.getName().isPresent() && profile.getName().get().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .forEach(profile -> matching.put(profile.getUniqueId(), profile));
+        // Users which are only known by the username cache
+        for (Map.Entry<UUID, String> entry : SpongeUsernameCache.getUsernamesStartingWith(lastKnownName).entrySet()) {
+            matching.putIfAbsent(entry.getKey(), GameProfile.of(entry.getKey(), entry.getValue()));
         }
-        return matching;
+        return Sets.newHashSet(matching.values());
     }
 
 }
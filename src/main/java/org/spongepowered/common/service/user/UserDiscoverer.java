@@ -57,6 +57,7 @@
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class UserDiscoverer {
 
@@ -126,38 +127,23 @@ static User findByUsername(String username) {
     }
 
     static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
+        return streamAllProfiles().collect(Collectors.toSet());
+    }
+
+    /**
+     * Streams the profiles of all known users. Users with player data are
+     * streamed lazily from the {@link UserProfileIndex}, followed by cached,
+     * whitelisted and banned users which are not indexed.
+     *
+     * @return The profiles
+     */
+    static Stream<org.spongepowered.api.profile.GameProfile> streamAllProfiles() {
         Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
         Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
 
         // Add all cached profiles
         profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
 
-        // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // If the filename contains a period, we can fail fast. Vanilla code fixes the Strings that have ".dat" to strip that out
-            // before passing that back in getAvailablePlayerDat. It doesn't remove non ".dat" filenames from the list.
-            if (playerUuid.contains(".")) {
-                continue;
-            }
-
-            // At this point, we have a filename who has no extension. This doesn't mean it is actually a UUID. We trap the exception and ignore
-            // any filenames that fail the UUID check.
-            UUID uuid;
-            try {
-                uuid = UUID.fromString(playerUuid);
-            } catch (Exception ex) {
-                continue;
-            }
-
-            final GameProfile profile = SpongeImpl.getServer().getPlayerProfileCache().getProfileByUUID(uuid);
-            if (profile != null) {
-                profiles.add((org.spongepowered.api.profile.GameProfile) profile);
-            }
-        }
-
         // Add all whitelisted users
         final UserListWhitelist whiteList = SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers();
         profiles.addAll(whiteList.getValues().values().stream().map(entry -> (org.spongepowered.api.profile.GameProfile) entry.value)
@@ -168,7 +154,8 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         profiles.addAll(banList.getValues().values().stream().filter(entry -> entry != null).map(entry -> (org.spongepowered.api.profile.GameProfile)
                 entry.value).collect(Collectors.toList()));
 
-        return profiles;
+        // Add all known profiles from the data files
+        return Stream.concat(UserProfileIndex.stream(), profiles.stream().filter(profile -> !UserProfileIndex.contains(profile.getUniqueId())));
     }
 
     static boolean delete(UUID uniqueId) {
@@ -177,6 +164,9 @@ static boolean delete(UUID uniqueId) {
             return false;
         }
         boolean success = deleteStoredPlayerData(uniqueId);
+        if (success) {
+            UserProfileIndex.remove(uniqueId);
+        }
         success = success && deleteWhitelistEntry(uniqueId);
         success = success && deleteBanlistEntry(uniqueId);
         return success;
@@ -0,0 +1,319 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.common.world.WorldManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk index of all users with player data in the overworld, so that
+ * users can be listed without scanning the player data directory.
+ *
+ * <p>The index is stored as a journal of put and remove records next to the
+ * player data, appended by a background thread on login, logout, deletion
+ * and whenever player data of a user not known yet is written. It is compacted once the journal outgrows the index. If no index
+ * exists yet, it is built once from the player data directory.</p>
+ */
+public final class UserProfileIndex {
+
+    private static final String FILE_NAME = "sponge_profiles.dat";
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final int MIN_COMPACT_RECORDS = 1024;
+
+    private static final NavigableMap<UUID, Entry> entries = new ConcurrentSkipListMap<>();
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Profile Index Writer")
+            .setDaemon(true)
+            .build());
+    private static final Object lock = new Object();
+
+    // The player data directory the index was loaded for
+    @Nullable private static volatile File loadedDirectory;
+    // Only accessed by the writer
+    private static int journalRecords;
+
+    private UserProfileIndex() {
+    }
+
+    /**
+     * Records the login of the given player.
+     *
+     * @param profile The profile of the player
+     */
+    public static void onLogin(com.mojang.authlib.GameProfile profile) {
+        if (!ensureLoaded()) {
+            return;
+        }
+        final Entry previous = entries.get(profile.getId());
+        put(profile.getId(), new Entry(profile.getName(), System.currentTimeMillis(), previous != null && previous.hasData));
+    }
+
+    /**
+     * Records the logout of the given player, after which its player data is
+     * saved.
+     *
+     * @param profile The profile of the player
+     */
+    public static void onLogout(com.mojang.authlib.GameProfile profile) {
+        if (!ensureLoaded()) {
+            return;
+        }
+        put(profile.getId(), new Entry(profile.getName(), System.currentTimeMillis(), true));
+    }
+
+    /**
+     * Records that player data was written for the given user, which doesn't
+     * have to have logged in before, such as offline users created by
+     * plugins.
+     *
+     * @param uniqueId The unique id of the user
+     * @param name The name of the user, if known
+     */
+    public static void onDataSaved(UUID uniqueId, @Nullable String name) {
+        if (!ensureLoaded()) {
+            return;
+        }
+        final Entry previous = entries.get(uniqueId);
+        if (previous == null) {
+            put(uniqueId, new Entry(name, System.currentTimeMillis(), true));
+        } else if (!previous.hasData || (name != null && !name.equals(previous.name))) {
+            put(uniqueId, new Entry(name == null ? previous.name : name, previous.lastSeen, true));
+        }
+    }
+
+    static void remove(UUID uniqueId) {
+        if (!ensureLoaded() || entries.remove(uniqueId) == null) {
+            return;
+        }
+        final File directory = loadedDirectory;
+        writer.execute(() -> append(directory, uniqueId, null));
+    }
+
+    static boolean contains(UUID uniqueId) {
+        return ensureLoaded() && entries.containsKey(uniqueId);
+    }
+
+    /**
+     * Lazily streams the profiles of all indexed users with a known name in
+     * the order of their unique ids, without copying the index.
+     *
+     * @return The profiles
+     */
+    static Stream<GameProfile> stream() {
+        if (!ensureLoaded()) {
+            return Stream.empty();
+        }
+        return entries.entrySet().stream()
+                .map(UserProfileIndex::toProfile)
+                .filter(Objects::nonNull);
+    }
+
+    @Nullable
+    private static GameProfile toProfile(Map.Entry<UUID, Entry> entry) {
+        String name = entry.getValue().name;
+        if (name == null) {
+            name = SpongeUsernameCache.getLastKnownUsername(entry.getKey());
+            if (name == null) {
+                return null;
+            }
+        }
+        return GameProfile.of(entry.getKey(), name);
+    }
+
+    private static void put(UUID uniqueId, Entry entry) {
+        entries.put(uniqueId, entry);
+        final File directory = loadedDirectory;
+        writer.execute(() -> append(directory, uniqueId, entry));
+    }
+
+    private static boolean ensureLoaded() {
+        final Optional<WorldServer> overworld = WorldManager.getWorldByDimensionId(0);
+        if (!overworld.isPresent()) {
+            return false;
+        }
+        final File directory = ((SaveHandler) overworld.get().getSaveHandler()).playersDirectory;
+        if (directory.equals(loadedDirectory)) {
+            return true;
+        }
+        synchronized (lock) {
+            if (!directory.equals(loadedDirectory)) {
+                entries.clear();
+                final File indexFile = new File(directory.getParentFile(), FILE_NAME);
+                if (indexFile.exists()) {
+                    final int records = read(indexFile.toPath());
+                    loadedDirectory = directory;
+                    writer.execute(() -> journalRecords = records);
+                } else {
+                    rebuild(directory);
+                    loadedDirectory = directory;
+                    writer.execute(() -> compact(directory));
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void rebuild(File directory) {
+        final File[] files = directory.listFiles((dir, name) -> name.endsWith(".dat"));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            final String fileName = file.getName();
+            final UUID uniqueId;
+            try {
+                uniqueId = UUID.fromString(fileName.substring(0, fileName.length() - ".dat".length()));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            final com.mojang.authlib.GameProfile profile = SpongeImpl.getServer().getPlayerProfileCache().getProfileByUUID(uniqueId);
+            entries.put(uniqueId, new Entry(profile == null ? null : profile.getName(), file.lastModified(), true));
+        }
+    }
+
+    private static int read(Path indexFile) {
+        int records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            while (true) {
+                final byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                if (type == PUT) {
+                    final String name = in.readBoolean() ? in.readUTF() : null;
+                    entries.put(uniqueId, new Entry(name, in.readLong(), in.readBoolean()));
+                } else if (type == REMOVE) {
+                    entries.remove(uniqueId);
+                } else {
+                    throw new IOException("Unknown record type " + type);
+                }
+                records++;
+            }
+        } catch (IOException e) {
+            // A partially written record, the next compaction drops it
+            SpongeImpl.getLogger().warn("Profile index {} is incomplete, using its first {} records", indexFile, records, e);
+            records = Integer.MAX_VALUE;
+        }
+        return records;
+    }
+
+    private static void append(File directory, UUID uniqueId, @Nullable Entry entry) {
+        if (!directory.equals(loadedDirectory)) {
+            return;
+        }
+        if (journalRecords >= Math.max(MIN_COMPACT_RECORDS, entries.size() * 2)) {
+            compact(directory);
+            return;
+        }
+        final Path indexFile = new File(directory.getParentFile(), FILE_NAME).toPath();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(indexFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            write(out, uniqueId, entry);
+            journalRecords++;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to update profile index {}", indexFile, e);
+        }
+    }
+
+    private static void compact(File directory) {
+        if (!directory.equals(loadedDirectory)) {
+            return;
+        }
+        final Path indexFile = new File(directory.getParentFile(), FILE_NAME).toPath();
+        final Path tempFile = indexFile.resolveSibling(FILE_NAME + ".tmp");
+        int records = 0;
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+                    write(out, entry.getKey(), entry.getValue());
+                    records++;
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journalRecords = records;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to write profile index {}", indexFile, e);
+        }
+    }
+
+    private static void write(DataOutputStream out, UUID uniqueId, @Nullable Entry entry) throws IOException {
+        out.writeByte(entry == null ? REMOVE : PUT);
+        out.writeLong(uniqueId.getMostSignificantBits());
+        out.writeLong(uniqueId.getLeastSignificantBits());
+        if (entry != null) {
+            out.writeBoolean(entry.name != null);
+            if (entry.name != null) {
+                out.writeUTF(entry.name);
+            }
+            out.writeLong(entry.lastSeen);
+            out.writeBoolean(entry.hasData);
+        }
+    }
+
+    private static final class Entry {
+
+        @Nullable final String name;
+        final long lastSeen;
+        final boolean hasData;
+
+        Entry(@Nullable String name, long lastSeen, boolean hasData) {
+            this.name = name;
+            this.lastSeen = lastSeen;
+            this.hasData = hasData;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.selector;
+
+import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.function.Predicate;
+
+/**
+ * Finds selector candidates through the entity lists chunks already keep per
+ * 16 block section and per entity class, so only the sections overlapping
+ * the selected volume and only entities of the selected type are visited.
+ */
+final class SelectorEntityIndex {
+
+    // Same margin World#getEntitiesWithinAABB allows for entities that have
+    // moved but were not yet put into their new section
+    private static final double MARGIN = 2.0D;
+
+    private SelectorEntityIndex() {
+    }
+
+    /**
+     * Passes every entity of the extent that may be within the given bounds
+     * and is an instance of the given class to the visitor. Unbounded axes
+     * are given as infinite coordinates.
+     *
+     * @param extent The extent to search
+     * @param min The minimum corner of the bounds
+     * @param max The maximum corner of the bounds
+     * @param entityClass The minecraft class every candidate extends
+     * @param visitor The visitor, returning false to stop the search
+     * @return False if the visitor stopped the search
+     */
+    static boolean visit(Extent extent, Vector3d min, Vector3d max, Class<? extends net.minecraft.entity.Entity> entityClass,
+            Predicate<Entity> visitor) {
+        if (!(extent instanceof WorldServer)) {
+            for (Entity entity : extent.getEntities()) {
+                if (entityClass.isInstance(entity) && !visitor.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        final WorldServer world = (WorldServer) extent;
+        final int minSection = clampSection(min.getY() - MARGIN);
+        final int maxSection = clampSection(max.getY() + MARGIN);
+        if (Double.isInfinite(min.getX()) || Double.isInfinite(max.getX()) || Double.isInfinite(min.getZ())
+                || Double.isInfinite(max.getZ())) {
+            if (EntityPlayer.class.isAssignableFrom(entityClass)) {
+                // Players are kept in their own list, no need to touch any chunk
+                for (EntityPlayer player : world.playerEntities) {
+                    if (entityClass.isInstance(player) && !visitor.test((Entity) player)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+                if (!visitChunk(chunk, minSection, maxSection, entityClass, visitor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+        final int minChunkX = MathHelper.floor((min.getX() - MARGIN) / 16.0D);
+        final int maxChunkX = MathHelper.floor((max.getX() + MARGIN) / 16.0D);
+        final int minChunkZ = MathHelper.floor((min.getZ() - MARGIN) / 16.0D);
+        final int maxChunkZ = MathHelper.floor((max.getZ() + MARGIN) / 16.0D);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+                if (chunk != null && !visitChunk(chunk, minSection, maxSection, entityClass, visitor)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean visitChunk(Chunk chunk, int minSection, int maxSection, Class<? extends net.minecraft.entity.Entity> entityClass,
+            Predicate<Entity> visitor) {
+        final ClassInheritanceMultiMap<net.minecraft.entity.Entity>[] entityLists = chunk.getEntityLists();
+        for (int section = minSection; section <= maxSection; section++) {
+            final Iterable<? extends net.minecraft.entity.Entity> entities = entityClass == net.minecraft.entity.Entity.class
+                    ? entityLists[section] : entityLists[section].getByClass(entityClass);
+            for (net.minecraft.entity.Entity entity : entities) {
+                if (!visitor.test((Entity) entity)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int clampSection(double y) {
+        if (Double.isInfinite(y)) {
+            return y < 0 ? 0 : 15;
+        }
+        return MathHelper.clamp(MathHelper.floor(y / 16.0D), 0, 15);
+    }
+
+}
@@ -31,6 +31,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.entity.player.EntityPlayer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -59,6 +60,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.entity.SpongeEntityType;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -66,6 +68,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -78,6 +81,8 @@ public class SelectorResolver {
 
     private static final Function<CommandSource, String> GET_NAME = CommandSource::getName;
     private static final Vector3d ORIGIN = new Vector3d(0, 0, 0);
+    private static final Vector3d UNBOUNDED_MIN = new Vector3d(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    private static final Vector3d UNBOUNDED_MAX = new Vector3d(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
@@ -116,6 +121,9 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    private Vector3d searchMin = UNBOUNDED_MIN;
+    private Vector3d searchMax = UNBOUNDED_MAX;
+    private Class<? extends net.minecraft.entity.Entity> candidateClass = net.minecraft.entity.Entity.class;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -163,6 +171,10 @@ private Predicate<Entity> makeFilter() {
         if (isPlayerOnlySelector) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
+            this.candidateClass = EntityPlayer.class;
+        }
+        if (type.isPresent() && !type.get().isInverted() && type.get().getValue() instanceof SpongeEntityType) {
+            this.candidateClass = ((SpongeEntityType) type.get().getValue()).entityClass;
         }
         return Functional.predicateAnd(filters);
     }
@@ -174,6 +186,27 @@ private void addDimensionFilters(final Vector3d position, List<Predicate<Entity>
         Vector3d det2 = position.add(boxDimensions);
         final Vector3d boxMin = det1.min(det2);
         final Vector3d boxMax = det1.max(det2);
+        // Narrow the searched volume to the axes the selector restricts
+        double minX = this.searchMin.getX();
+        double minY = this.searchMin.getY();
+        double minZ = this.searchMin.getZ();
+        double maxX = this.searchMax.getX();
+        double maxY = this.searchMax.getY();
+        double maxZ = this.searchMax.getZ();
+        if (sel.has(ArgumentTypes.DIMENSION.x())) {
+            minX = Math.max(minX, boxMin.getX());
+            maxX = Math.min(maxX, boxMax.getX());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.y())) {
+            minY = Math.max(minY, boxMin.getY());
+            maxY = Math.min(maxY, boxMax.getY());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.z())) {
+            minZ = Math.max(minZ, boxMin.getZ());
+            maxZ = Math.min(maxZ, boxMax.getZ());
+        }
+        this.searchMin = new Vector3d(minX, minY, minZ);
+        this.searchMax = new Vector3d(maxX, maxY, maxZ);
         if (sel.has(ArgumentTypes.DIMENSION.x())) {
             filters.add(input -> {
                 Vector3d pos = input.getLocation().getPosition();
@@ -252,6 +285,8 @@ private void addRadiusFilters(final Vector3d position, List<Predicate<Entity>> f
         if (radiusMax.isPresent()) {
             int radMax = radiusMax.get();
             final int radMaxSquared = radMax * radMax;
+            this.searchMin = this.searchMin.max(position.sub(radMax, radMax, radMax));
+            this.searchMax = this.searchMax.min(position.add(radMax, radMax, radMax));
             filters.add(input -> input.getLocation().getPosition().distanceSquared(position) <= radMaxSquared);
         }
     }
@@ -345,30 +380,54 @@ public Set<Entity> resolve() {
         if (INFINITE_TYPES.contains(selectorType)) {
             defaultCount = 0;
         }
-        int maxToSelect = this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount);
+        final int maxToSelect = Math.abs(this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount));
         Set<? extends Extent> extents = getExtentSet();
-        int count = 0;
-        ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
+        if (selectorType == SelectorTypes.RANDOM) {
+            return resolveRandom(extents, maxToSelect);
+        }
+        final ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
+        final int[] count = {0};
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
-            if (selectorType == SelectorTypes.RANDOM) {
-                List<Entity> entityList = new ArrayList<>(allEntities);
-                Collections.shuffle(entityList);
-                allEntities = entityList;
+            boolean completed = SelectorEntityIndex.visit(extent, this.searchMin, this.searchMax, this.candidateClass, entity -> {
+                if (!this.selectorFilter.test(entity)) {
+                    return true;
+                }
+                entities.add(entity);
+                // Stop searching as soon as the count is reached
+                return maxToSelect == 0 || ++count[0] < maxToSelect;
+            });
+            if (!completed) {
+                break;
             }
+        }
+        return entities.build();
+    }
 
-            for (Entity e : allEntities) {
-                if (!this.selectorFilter.test(e)) {
-                    continue;
+    private Set<Entity> resolveRandom(Set<? extends Extent> extents, final int maxToSelect) {
+        // Reservoir sampling keeps a uniform selection of the matches without
+        // copying and shuffling every entity of the extents
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<Entity> selected = new ArrayList<>();
+        final int[] matches = {0};
+        for (Extent extent : extents) {
+            SelectorEntityIndex.visit(extent, this.searchMin, this.searchMax, this.candidateClass, entity -> {
+                if (!this.selectorFilter.test(entity)) {
+                    return true;
                 }
-                entities.add(e);
-                count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+                matches[0]++;
+                if (maxToSelect == 0 || selected.size() < maxToSelect) {
+                    selected.add(entity);
+                } else {
+                    int index = random.nextInt(matches[0]);
+                    if (index < maxToSelect) {
+                        selected.set(index, entity);
+                    }
                 }
-            }
+                return true;
+            });
         }
-        return entities.build();
+        Collections.shuffle(selected, random);
+        return ImmutableSet.copyOf(selected);
     }
 
     private Set<? extends Extent> getExtentSet() {
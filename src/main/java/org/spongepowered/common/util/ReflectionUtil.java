@@ -116,7 +116,7 @@ public static <T> Constructor<T> findConstructor(final Class<T> objectClass, Obj
         throw new IllegalArgumentException("Applicable constructor not found for class: " + objectClass.getCanonicalName() + " with args: " + Arrays.toString(args));
     }
 
-    private static List<Object> deconstructArray(Object[] objects) {
+    public static List<Object> deconstructArray(Object[] objects) {
         final List<Object> list = new ArrayList<>();
         for (Object object : objects) {
             if (object == null) {
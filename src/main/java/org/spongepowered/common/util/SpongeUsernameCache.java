@@ -26,24 +26,36 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nullable;
 
 import org.spongepowered.common.SpongeImpl;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.io.Files;
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -53,6 +65,12 @@
  * last known username.<br>
  * For convenience, {@link #getMap()} is provided to get an immutable copy of
  * the caches underlying map.
+ * <p>
+ * Usernames are additionally indexed by their lower case form, for
+ * case-insensitive lookups of unique ids and prefix searches. The cache is
+ * written by a background thread to a compact binary file, only if it
+ * changed since the last save. A legacy json cache is read once if no
+ * binary cache exists yet.
  * 
  * Note: This class represents Forge's UsernameCache. It is used merely used
  * to support both SpongeForge and SpongeVanilla. Original code can be found
@@ -62,15 +80,27 @@
  */
 public final class SpongeUsernameCache {
 
-    // Thread-safe map
-    private static Map<UUID, String> map = new ConcurrentHashMap<>();
+    private static final int FORMAT_VERSION = 1;
+
+    // Thread-safe maps, both guarded by the lock for writes
+    private static final Map<UUID, String> map = new ConcurrentHashMap<>();
+    private static final NavigableMap<String, UUID> lowerCaseNames = new ConcurrentSkipListMap<>();
+    private static final Object lock = new Object();
 
     private static final Charset charset = Charsets.UTF_8;
 
-    private static final File saveFile = new File(".", "usernamecache.json");
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Path saveFile = Paths.get(".", "usernamecache.dat");
+    private static final Path legacySaveFile = Paths.get(".", "usernamecache.json");
+    private static final Gson gson = new Gson();
 
-    private static boolean loaded = false;
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Username Cache Writer")
+            .setDaemon(true)
+            .build());
+    private static final AtomicBoolean dirty = new AtomicBoolean();
+    private static final AtomicBoolean savePending = new AtomicBoolean();
+
+    private static volatile boolean loaded = false;
 
     /**
      * Set a player's current username
@@ -91,7 +121,10 @@ public static void setUsername(UUID uuid, String username) {
             return;
         }
 
-        map.put(uuid, username);
+        synchronized (lock) {
+            put(uuid, username);
+        }
+        dirty.set(true);
     }
 
     /**
@@ -107,11 +140,15 @@ public static boolean removeUsername(UUID uuid) {
             load();
         }
 
-        if (map.remove(uuid) != null) {
-            return true;
+        synchronized (lock) {
+            final String username = map.remove(uuid);
+            if (username == null) {
+                return false;
+            }
+            lowerCaseNames.remove(username.toLowerCase(Locale.ROOT), uuid);
         }
-
-        return false;
+        dirty.set(true);
+        return true;
     }
 
     /**
@@ -151,13 +188,33 @@ public static UUID getLastKnownUUID(String username) {
             load();
         }
 
-        for (Map.Entry<UUID, String> mapEntry : map.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
+        return lowerCaseNames.get(username.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Get the last known usernames starting with the given prefix, ignoring
+     * case
+     *
+     * @param prefix
+     *            the prefix of the usernames
+     * @return an immutable map of the matching players' uuids to their
+     *         usernames
+     */
+    public static Map<UUID, String> getUsernamesStartingWith(String prefix) {
+        checkNotNull(prefix);
+        if (!loaded) {
+            load();
         }
 
-        return null;
+        final String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+        final ImmutableMap.Builder<UUID, String> builder = ImmutableMap.builder();
+        for (UUID uuid : lowerCaseNames.subMap(lowerCasePrefix, lowerCasePrefix + Character.MAX_VALUE).values()) {
+            final String username = map.get(uuid);
+            if (username != null) {
+                builder.put(uuid, username);
+            }
+        }
+        return builder.build();
     }
 
     /**
@@ -190,17 +247,52 @@ public static Map<UUID, String> getMap() {
     }
 
     /**
-     * Save the cache to file
+     * Save the cache to file in the background, if it changed since the
+     * last save
      */
     public static void save() {
         if (!loaded) {
             load();
         }
 
+        if (dirty.get() && savePending.compareAndSet(false, true)) {
+            writer.execute(SpongeUsernameCache::write);
+        }
+    }
+
+    /**
+     * Save the cache to file and wait for all pending saves to complete
+     */
+    public static void flush() {
+        save();
+        try {
+            writer.submit(SpongeUsernameCache::write).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
+        }
+    }
+
+    private static void write() {
+        savePending.set(false);
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        final Map<UUID, String> snapshot = ImmutableMap.copyOf(map);
+        final Path tempFile = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
         try {
-            // Make sure we don't save when another thread is still saving
-            Files.write(gson.toJson(map), saveFile, charset);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<UUID, String> entry : snapshot.entrySet()) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    out.writeUTF(entry.getValue());
+                }
+            }
+            Files.move(tempFile, saveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
+            dirty.set(true);
             SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
         }
     }
@@ -209,26 +301,72 @@ public static void save() {
      * Load the cache from file
      */
     public static void load() {
-        loaded = true;
-        if (!saveFile.exists()) return;
+        synchronized (lock) {
+            if (loaded) {
+                return;
+            }
+            if (Files.exists(saveFile)) {
+                read();
+            } else if (Files.exists(legacySaveFile)) {
+                readLegacy();
+                // Persist in the binary format on the next save
+                dirty.set(true);
+            }
+            loaded = true;
+        }
+    }
 
-        try {
+    private static void read() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(saveFile)))) {
+            final int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unknown username cache format version " + version);
+            }
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                put(new UUID(in.readLong(), in.readLong()), in.readUTF());
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to read username cache file from disk, deleting file", e);
+            map.clear();
+            lowerCaseNames.clear();
+            delete(saveFile);
+        }
+    }
 
-            String json = Files.toString(saveFile, charset);
+    private static void readLegacy() {
+        try {
+            String json = new String(Files.readAllBytes(legacySaveFile), charset);
             Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
 
-            map = gson.fromJson(json, type);
+            Map<UUID, String> legacyMap = gson.fromJson(json, type);
+            // Can sometimes occur when the json file is malformed
+            if (legacyMap != null) {
+                legacyMap.forEach(SpongeUsernameCache::put);
+            }
         } catch (JsonSyntaxException e) {
             SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
-            saveFile.delete();
+            delete(legacySaveFile);
         } catch (IOException e) {
             SpongeImpl.getLogger().error("Failed to read username cache file from disk, deleting file", e);
-            saveFile.delete();
-        } finally {
-            // Can sometimes occur when the json file is malformed
-            if (map == null) {
-                map = Maps.newHashMap();
-            }
+            delete(legacySaveFile);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to delete username cache file {}", file, e);
+        }
+    }
+
+    // Must be called while holding the lock
+    private static void put(UUID uuid, String username) {
+        final String previous = map.put(uuid, username);
+        if (previous != null) {
+            lowerCaseNames.remove(previous.toLowerCase(Locale.ROOT), uuid);
         }
+        lowerCaseNames.put(username.toLowerCase(Locale.ROOT), uuid);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The owner and notifier indices of the tracked block positions of a chunk.
+ *
+ * <p>Each position is stored as a chunk local int key in an open addressed
+ * table, mapping to a single long which packs the owner index in its high
+ * and the notifier index in its low 32 bits. An index of {@code -1} marks
+ * an absent owner or notifier. The table is written to chunk data as a
+ * flat int array of {@code [key, owner, notifier]} triples.</p>
+ *
+ * <p>Next to the table, each 16x16x16 section below y 256 keeps a bitmap of
+ * its tracked positions, which is only allocated once a position of that
+ * section is tracked. Lookups of untracked positions are answered by a single
+ * bit test, without probing the table.</p>
+ */
+public final class BlockOwnerIndex {
+
+    public static final int NO_INDEX = -1;
+
+    /**
+     * An index without any tracked positions, used by chunks which are not tracking blocks.
+     */
+    public static final BlockOwnerIndex EMPTY = new BlockOwnerIndex(0);
+
+    private static final long ABSENT = pack(NO_INDEX, NO_INDEX);
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_SHIFT = 8;
+    private static final int Y_MASK = 0xFFFFFF;
+    private static final int SECTION_COUNT = 16;
+    private static final int SECTION_SHIFT = 12;
+    private static final int SECTION_MASK = 0xFFF;
+
+    private final Int2LongOpenHashMap entries;
+    private final long[][] sectionBits = new long[SECTION_COUNT][];
+    private final int[] sectionCounts = new int[SECTION_COUNT];
+
+    public BlockOwnerIndex() {
+        this(16);
+    }
+
+    private BlockOwnerIndex(int expected) {
+        this.entries = new Int2LongOpenHashMap(expected);
+        this.entries.defaultReturnValue(ABSENT);
+    }
+
+    public static int key(BlockPos pos) {
+        return key(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public static int key(int x, int y, int z) {
+        return (x & XZ_MASK) | (z & XZ_MASK) << 4 | (y & Y_MASK) << Y_SHIFT;
+    }
+
+    public static int keyX(int key) {
+        return key & XZ_MASK;
+    }
+
+    public static int keyY(int key) {
+        return key >>> Y_SHIFT;
+    }
+
+    public static int keyZ(int key) {
+        return (key >> 4) & XZ_MASK;
+    }
+
+    private static long pack(int owner, int notifier) {
+        return (long) owner << 32 | notifier & 0xFFFFFFFFL;
+    }
+
+    private static int owner(long value) {
+        return (int) (value >> 32);
+    }
+
+    private static int notifier(long value) {
+        return (int) value;
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets whether any position of the given chunk section is tracked.
+     *
+     * @param sectionY The y index of the section
+     * @return True if the section has tracked positions
+     */
+    public boolean hasTrackedBlocks(int sectionY) {
+        return sectionY < 0 || sectionY >= SECTION_COUNT || this.sectionBits[sectionY] != null;
+    }
+
+    public boolean contains(int key) {
+        final int section = key >>> SECTION_SHIFT;
+        if (section >= SECTION_COUNT) {
+            return this.entries.containsKey(key);
+        }
+        final long[] bits = this.sectionBits[section];
+        return bits != null && (bits[(key & SECTION_MASK) >>> 6] & 1L << key) != 0;
+    }
+
+    private long get(int key) {
+        final int section = key >>> SECTION_SHIFT;
+        if (section < SECTION_COUNT) {
+            final long[] bits = this.sectionBits[section];
+            if (bits == null || (bits[(key & SECTION_MASK) >>> 6] & 1L << key) == 0) {
+                return ABSENT;
+            }
+        }
+        return this.entries.get(key);
+    }
+
+    public int getOwner(int key) {
+        return owner(this.get(key));
+    }
+
+    public int getNotifier(int key) {
+        return notifier(this.get(key));
+    }
+
+    public void set(int key, int owner, int notifier) {
+        if (owner == NO_INDEX && notifier == NO_INDEX) {
+            this.remove(key);
+        } else if (this.entries.put(key, pack(owner, notifier)) == ABSENT) {
+            final int section = key >>> SECTION_SHIFT;
+            if (section < SECTION_COUNT) {
+                long[] bits = this.sectionBits[section];
+                if (bits == null) {
+                    bits = this.sectionBits[section] = new long[(SECTION_MASK + 1) >>> 6];
+                }
+                bits[(key & SECTION_MASK) >>> 6] |= 1L << key;
+                this.sectionCounts[section]++;
+            }
+        }
+    }
+
+    public void setOwner(int key, int owner) {
+        set(key, owner, getNotifier(key));
+    }
+
+    public void setNotifier(int key, int notifier) {
+        set(key, getOwner(key), notifier);
+    }
+
+    public void remove(int key) {
+        if (this.entries.remove(key) == ABSENT) {
+            return;
+        }
+        final int section = key >>> SECTION_SHIFT;
+        if (section < SECTION_COUNT) {
+            if (--this.sectionCounts[section] == 0) {
+                this.sectionBits[section] = null;
+            } else {
+                this.sectionBits[section][(key & SECTION_MASK) >>> 6] &= ~(1L << key);
+            }
+        }
+    }
+
+    /**
+     * Serializes this index into {@code [key, owner, notifier]} triples.
+     *
+     * @return The serialized index
+     */
+    public int[] toIntArray() {
+        final int[] data = new int[this.entries.size() * 3];
+        int i = 0;
+        for (Int2LongMap.Entry entry : this.entries.int2LongEntrySet()) {
+            data[i++] = entry.getIntKey();
+            data[i++] = owner(entry.getLongValue());
+            data[i++] = notifier(entry.getLongValue());
+        }
+        return data;
+    }
+
+    public static BlockOwnerIndex fromIntArray(int[] data) {
+        final BlockOwnerIndex index = new BlockOwnerIndex(data.length / 3);
+        for (int i = 0; i + 2 < data.length; i += 3) {
+            index.set(data[i], data[i + 1], data[i + 2]);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Runs the light updates of a world on a small pool of workers.
+ *
+ * <p>Updates are partitioned by region, all updates within the same region
+ * run on the same worker in the order they were submitted. A light update
+ * can spill into the neighbors of its chunk, so every update holds the locks
+ * of the chunks it touches. Updates of non-overlapping regions never contend
+ * on those locks and run in parallel.</p>
+ */
+public final class AsyncLightingEngine {
+
+    // Regions are 4x4 chunks
+    private static final int REGION_SHIFT = 2;
+    private static final int LOCK_STRIPES = 256;
+
+    private final Worker[] workers;
+    private final ReentrantLock[] locks;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong peakBacklog = new AtomicLong();
+    private final LongAdder processedUpdates = new LongAdder();
+
+    public AsyncLightingEngine(int threads) {
+        this.workers = new Worker[Math.max(1, threads)];
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = new Worker(this.workers.length == 1 ? "Sponge - Async Light Thread" : "Sponge - Async Light Thread #" + i);
+        }
+        if (this.workers.length > 1) {
+            this.locks = new ReentrantLock[LOCK_STRIPES];
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                this.locks[i] = new ReentrantLock();
+            }
+        } else {
+            // A single worker never runs updates concurrently
+            this.locks = null;
+        }
+    }
+
+    /**
+     * Queues a light update on the worker of the region of the chunk.
+     *
+     * @param chunk The chunk of the updated position
+     * @param neighbors The neighbors the update may access
+     * @param update The update, run with the scratch state of its worker
+     */
+    public void submit(Chunk chunk, List<Chunk> neighbors, Consumer<LightingContext> update) {
+        final long backlog = this.backlog.incrementAndGet();
+        this.peakBacklog.accumulateAndGet(backlog, Math::max);
+
+        final Worker worker = this.workers[Math.floorMod(mix(chunk.x >> REGION_SHIFT, chunk.z >> REGION_SHIFT), this.workers.length)];
+        worker.executor.execute(() -> {
+            try {
+                if (this.locks == null) {
+                    update.accept(worker.context);
+                } else {
+                    runLocked(worker, chunk, neighbors, update);
+                }
+            } finally {
+                this.backlog.decrementAndGet();
+                this.processedUpdates.increment();
+            }
+        });
+    }
+
+    private void runLocked(Worker worker, Chunk chunk, List<Chunk> neighbors, Consumer<LightingContext> update) {
+        // Locks are always acquired in ascending order to avoid deadlocks
+        final int[] stripes = worker.stripes;
+        int count = 0;
+        stripes[count++] = stripe(chunk);
+        for (Chunk neighbor : neighbors) {
+            final int stripe = stripe(neighbor);
+            boolean present = false;
+            for (int i = 0; i < count; i++) {
+                if (stripes[i] == stripe) {
+                    present = true;
+                    break;
+                }
+            }
+            if (!present && count < stripes.length) {
+                stripes[count++] = stripe;
+            }
+        }
+        Arrays.sort(stripes, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            this.locks[stripes[i]].lock();
+        }
+        try {
+            update.accept(worker.context);
+        } finally {
+            for (int i = count - 1; i >= 0; i--) {
+                this.locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private static int stripe(Chunk chunk) {
+        return mix(chunk.x, chunk.z) & (LOCK_STRIPES - 1);
+    }
+
+    private static int mix(int x, int z) {
+        int hash = x * 0x9E3779B9 + z;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Gets the amount of light updates which are queued or running.
+     *
+     * @return The backlog
+     */
+    public long getBacklog() {
+        return this.backlog.get();
+    }
+
+    /**
+     * Gets the highest backlog since the engine was started.
+     *
+     * @return The peak backlog
+     */
+    public long getPeakBacklog() {
+        return this.peakBacklog.get();
+    }
+
+    public long getProcessedUpdates() {
+        return this.processedUpdates.sum();
+    }
+
+    public void shutdown() {
+        for (Worker worker : this.workers) {
+            worker.executor.shutdown();
+        }
+    }
+
+    public void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Worker worker : this.workers) {
+            worker.executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void shutdownNow() {
+        for (Worker worker : this.workers) {
+            worker.executor.shutdownNow();
+        }
+    }
+
+    private static final class Worker {
+
+        final ExecutorService executor;
+        final LightingContext context = new LightingContext();
+        // The current chunk and its eight neighbors
+        final int[] stripes = new int[9];
+
+        Worker(String name) {
+            this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(name).build());
+        }
+    }
+
+}
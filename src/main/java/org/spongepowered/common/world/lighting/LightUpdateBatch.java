@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.List;
+
+/**
+ * The light updates collected for a single chunk section during a tick.
+ * Positions are deduplicated per light type and processed together on the
+ * lighting engine with the neighbors which were resolved once for the
+ * whole section.
+ */
+public final class LightUpdateBatch {
+
+    private final Chunk chunk;
+    private final List<Chunk> neighbors;
+    private final LongLinkedOpenHashSet skyUpdates = new LongLinkedOpenHashSet();
+    private final LongLinkedOpenHashSet blockUpdates = new LongLinkedOpenHashSet();
+
+    public LightUpdateBatch(Chunk chunk, List<Chunk> neighbors) {
+        this.chunk = chunk;
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * Gets the key of the chunk section containing the position.
+     *
+     * @param pos The position
+     * @return The section key
+     */
+    public static long getSectionKey(BlockPos pos) {
+        return ((long) (pos.getX() >> 4) & 0x3FFFFFFL) << 38 | ((long) (pos.getZ() >> 4) & 0x3FFFFFFL) << 12 | (pos.getY() >> 4) & 0xFFFL;
+    }
+
+    public Chunk getChunk() {
+        return this.chunk;
+    }
+
+    public List<Chunk> getNeighbors() {
+        return this.neighbors;
+    }
+
+    /**
+     * Adds the update, if the same position wasn't queued yet for the
+     * light type.
+     *
+     * @param lightType The light type
+     * @param pos The position
+     * @return True if the update was added
+     */
+    public boolean add(EnumSkyBlock lightType, BlockPos pos) {
+        final long packed = ((long) pos.getX() & 0x3FFFFFFL) << 38 | ((long) pos.getZ() & 0x3FFFFFFL) << 12 | (long) pos.getY() & 0xFFFL;
+        return (lightType == EnumSkyBlock.SKY ? this.skyUpdates : this.blockUpdates).add(packed);
+    }
+
+    /**
+     * Sets the mutable position to a position packed by this batch.
+     *
+     * @param pos The position to set
+     * @param packed The packed position
+     * @return The position, for chaining
+     */
+    public static BlockPos.MutableBlockPos unpack(BlockPos.MutableBlockPos pos, long packed) {
+        return pos.setPos((int) (packed >> 38), (int) (packed << 52 >> 52), (int) (packed << 26 >> 38));
+    }
+
+    public LongLinkedOpenHashSet getUpdates(EnumSkyBlock lightType) {
+        return lightType == EnumSkyBlock.SKY ? this.skyUpdates : this.blockUpdates;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The scratch state of a single lighting worker. Light updates only use the
+ * queue and positions of the worker they run on, so no state is shared
+ * between workers and no positions are allocated per queued node.
+ */
+public final class LightingContext {
+
+    /**
+     * The queue of packed relative positions, replacing the shared
+     * {@code World#lightUpdateBlockList}.
+     */
+    public final int[] queue = new int[32768];
+
+    public final BlockPos.MutableBlockPos origin = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos rawLightPos = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos clampedPos = new BlockPos.MutableBlockPos();
+
+}
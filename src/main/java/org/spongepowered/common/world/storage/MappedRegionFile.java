@@ -0,0 +1,279 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read only view of a region file which is mapped into memory.
+ *
+ * <p>Chunks are inflated straight out of the mapping instead of seeking on
+ * the file for every read, without taking any lock. The mapping is shared
+ * with the {@link RegionFile} writing to the same file, it is only remapped
+ * once the file grew past its end.</p>
+ */
+public final class MappedRegionFile {
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+    private static final int INFLATE_BUFFER_SIZE = 8192;
+    private static final byte VERSION_GZIP = 1;
+    private static final byte VERSION_DEFLATE = 2;
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final File file;
+    private final FileChannel channel;
+    private final AtomicLong writeStamp;
+    private volatile MappedByteBuffer buffer;
+
+    public MappedRegionFile(File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+        this.writeStamp = MappedRegionFileCache.getWriteStamp(file);
+    }
+
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Gets whether the chunk at the given index within the region is saved.
+     *
+     * @param index The index, x + z * 32
+     * @return Whether the chunk is saved
+     */
+    public boolean hasChunk(int index) {
+        return getOffset(index) != 0;
+    }
+
+    public boolean hasChunk(int x, int z) {
+        return hasChunk((x & 31) + (z & 31) * 32);
+    }
+
+    /**
+     * Opens a stream to read the chunk at the given index within the region.
+     *
+     * <p>The chunk is inflated directly from the mapping. Writers of the file
+     * bump its write stamp before and after every write, see
+     * {@link MappedRegionFileCache#getWriteStamp(File)}. If a write was in
+     * progress or happened while inflating, the result may be torn and the
+     * chunk is read through the {@link RegionFile} instead, which holds its
+     * lock like the writers do.</p>
+     *
+     * @param index The index, x + z * 32
+     * @return The stream, or null if the chunk isn't saved or is corrupt
+     */
+    @Nullable
+    public DataInputStream getChunkInputStream(int index) {
+        final long stamp = this.writeStamp.get();
+        if ((stamp & 1) == 0) {
+            try {
+                final ChunkBuffer chunk = readChunk(index);
+                if (this.writeStamp.get() == stamp) {
+                    return chunk == null ? null : new DataInputStream(chunk.toInputStream());
+                }
+            } catch (IOException | RuntimeException e) {
+                // Torn by a concurrent write or corrupt, let the region file deal with it
+            }
+        }
+
+        final RegionFile regionFile;
+        synchronized (RegionFileCache.class) {
+            regionFile = WorldStorageUtil.getRegionFile(this.file.toPath());
+        }
+        return regionFile.getChunkDataInputStream(index & 31, index >> 5);
+    }
+
+    /**
+     * Inflates the chunk at the given index from the mapping.
+     *
+     * @param index The index, x + z * 32
+     * @return The inflated chunk, or null if it isn't saved or is corrupt
+     * @throws IOException If the compressed data is corrupt
+     */
+    @Nullable
+    private ChunkBuffer readChunk(int index) throws IOException {
+        final int offset = getOffset(index);
+        if (offset == 0) {
+            return null;
+        }
+        final long start = (long) (offset >>> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        final long end = start + sectors * SECTOR_SIZE;
+        if (start < HEADER_SIZE || end > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        ByteBuffer buffer = this.buffer;
+        if (end > buffer.capacity()) {
+            buffer = remap((int) end);
+            if (buffer == null) {
+                throw new IOException("Chunk lies past the end of the file");
+            }
+        }
+
+        final int position = (int) start;
+        final int length = buffer.getInt(position);
+        if (length <= 1 || length > sectors * SECTOR_SIZE - 4) {
+            return null;
+        }
+        final byte version = buffer.get(position + 4);
+        final ByteBuffer compressed = buffer.duplicate();
+        compressed.limit(position + 4 + length);
+        compressed.position(position + 5);
+
+        final InputStream in = new ByteBufferInputStream(compressed);
+        final ChunkBuffer out = new ChunkBuffer(length * 4);
+        if (version == VERSION_GZIP) {
+            try (InputStream gzip = new GZIPInputStream(in, INFLATE_BUFFER_SIZE)) {
+                out.readFrom(gzip);
+            }
+        } else if (version == VERSION_DEFLATE) {
+            final Inflater inflater = INFLATER.get();
+            inflater.reset();
+            out.readFrom(new InflaterInputStream(in, inflater, INFLATE_BUFFER_SIZE));
+        } else {
+            return null;
+        }
+        return out;
+    }
+
+    @Nullable
+    public DataInputStream getChunkInputStream(int x, int z) {
+        return getChunkInputStream((x & 31) + (z & 31) * 32);
+    }
+
+    public void close() throws IOException {
+        // The mapping itself is released once it's no longer referenced
+        this.channel.close();
+    }
+
+    private int getOffset(int index) {
+        final ByteBuffer buffer = this.buffer;
+        if (buffer.capacity() < HEADER_SIZE) {
+            // Header wasn't written yet when the file was mapped
+            final ByteBuffer remapped = remap(HEADER_SIZE);
+            return remapped == null ? 0 : remapped.getInt(index << 2);
+        }
+        return buffer.getInt(index << 2);
+    }
+
+    @Nullable
+    private synchronized ByteBuffer remap(int required) {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer.capacity() >= required) {
+            return buffer;
+        }
+        try {
+            final long size = this.channel.size();
+            if (size < required) {
+                return null;
+            }
+            buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            this.buffer = buffer;
+            return buffer;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            final int remaining = this.buffer.remaining();
+            if (remaining == 0) {
+                return -1;
+            }
+            final int count = Math.min(len, remaining);
+            this.buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+        ChunkBuffer(int size) {
+            super(size);
+        }
+
+        void readFrom(InputStream in) throws IOException {
+            int read;
+            do {
+                if (this.count == this.buf.length) {
+                    this.buf = Arrays.copyOf(this.buf, this.buf.length << 1);
+                }
+                read = in.read(this.buf, this.count, this.buf.length - this.count);
+                if (read > 0) {
+                    this.count += read;
+                }
+            } while (read >= 0);
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(this.buf, 0, this.count);
+        }
+    }
+}
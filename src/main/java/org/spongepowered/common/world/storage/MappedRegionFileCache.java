@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the {@link MappedRegionFile}s that are opened, similar to
+ * {@link net.minecraft.world.chunk.storage.RegionFileCache}. Region files
+ * are never created by this cache, missing files are left to the writer.
+ */
+public final class MappedRegionFileCache {
+
+    private static final int MAX_OPEN_FILES = 256;
+    private static final Map<File, MappedRegionFile> REGIONS_BY_FILE = Maps.newHashMap();
+    // Only kept while a region file or a mapping of the file references it
+    private static final LoadingCache<Path, AtomicLong> WRITE_STAMPS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build(CacheLoader.from(path -> new AtomicLong()));
+
+    private MappedRegionFileCache() {
+    }
+
+    @Nullable
+    public static MappedRegionFile getRegionFile(File worldDir, int chunkX, int chunkZ) {
+        return getRegionFile(new File(new File(worldDir, "region"), "r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca"));
+    }
+
+    @Nullable
+    public static synchronized MappedRegionFile getRegionFile(File file) {
+        MappedRegionFile regionFile = REGIONS_BY_FILE.get(file);
+        if (regionFile != null) {
+            return regionFile;
+        }
+        if (!file.exists()) {
+            return null;
+        }
+        if (REGIONS_BY_FILE.size() >= MAX_OPEN_FILES) {
+            clear();
+        }
+        try {
+            regionFile = new MappedRegionFile(file);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to map region file {}", file, e);
+            return null;
+        }
+        REGIONS_BY_FILE.put(file, regionFile);
+        return regionFile;
+    }
+
+    /**
+     * Gets the write stamp of the given region file. It's incremented right
+     * before and right after every write to the file, so it's odd while a
+     * write is in progress and changes whenever the file was written to.
+     *
+     * @param file The region file
+     * @return The write stamp
+     */
+    public static AtomicLong getWriteStamp(File file) {
+        return WRITE_STAMPS.getUnchecked(file.toPath().toAbsolutePath().normalize());
+    }
+
+    public static synchronized void clear() {
+        for (MappedRegionFile regionFile : REGIONS_BY_FILE.values()) {
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to close region file {}", regionFile.getFile(), e);
+            }
+        }
+        REGIONS_BY_FILE.clear();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.QueuedChunk;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes the saved chunks of a chunk loader to their region files.
+ *
+ * <p>Chunks are grouped by region file, each region is drained by at most
+ * one worker at a time so that writes to the same chunk keep their order,
+ * while different regions are compressed and written in parallel on a pool
+ * shared by all worlds.</p>
+ */
+public final class RegionChunkWriter {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<ChunkBuffer> BUFFER = ThreadLocal.withInitial(ChunkBuffer::new);
+
+    @Nullable private static ExecutorService executor;
+
+    private final File saveLocation;
+    private final BiConsumer<ChunkPos, NBTTagCompound> callback;
+    // Guards all the state below
+    private final Long2ObjectMap<Region> regions = new Long2ObjectOpenHashMap<>();
+    private int pending;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param saveLocation The directory containing the region folder
+     * @param callback Called once a chunk was written, or given up on
+     */
+    public RegionChunkWriter(File saveLocation, BiConsumer<ChunkPos, NBTTagCompound> callback) {
+        this.saveLocation = saveLocation;
+        this.callback = callback;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final int threads = Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkWriterThreads());
+            executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Chunk Writer #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    /**
+     * Queues a chunk to be written to its region file.
+     *
+     * @param chunk The chunk to write
+     */
+    public void submit(QueuedChunk chunk) {
+        final long key = ChunkPos.asLong(chunk.coords.x >> 5, chunk.coords.z >> 5);
+        final Region region;
+        final boolean schedule;
+        synchronized (this.regions) {
+            Region existing = this.regions.get(key);
+            if (existing == null) {
+                existing = new Region();
+                this.regions.put(key, existing);
+            }
+            region = existing;
+            region.chunks.add(chunk);
+            this.pending++;
+            schedule = !region.scheduled;
+            region.scheduled = true;
+        }
+        if (schedule) {
+            getExecutor().execute(() -> drain(key, region));
+        }
+    }
+
+    /**
+     * Gets whether all the submitted chunks have been written.
+     *
+     * @return Whether there is nothing left to write
+     */
+    public boolean isIdle() {
+        synchronized (this.regions) {
+            return this.pending == 0;
+        }
+    }
+
+    /**
+     * Blocks until all the submitted chunks have been written.
+     */
+    public void awaitIdle() {
+        synchronized (this.regions) {
+            while (this.pending > 0) {
+                try {
+                    this.regions.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain(long key, Region region) {
+        while (true) {
+            final QueuedChunk chunk;
+            synchronized (this.regions) {
+                chunk = region.chunks.poll();
+                if (chunk == null) {
+                    region.scheduled = false;
+                    this.regions.remove(key);
+                    return;
+                }
+            }
+            try {
+                write(chunk);
+                this.callback.accept(chunk.coords, chunk.compound);
+            } finally {
+                synchronized (this.regions) {
+                    if (--this.pending == 0) {
+                        this.regions.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    private void write(QueuedChunk chunk) {
+        final ChunkPos pos = chunk.coords;
+        Exception lastException = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                // Compress outside of the region file lock, only the copy into
+                // the file blocks other writers of the same region.
+                final ChunkBuffer buffer = compress(chunk.compound);
+                final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(this.saveLocation, pos.x, pos.z);
+                regionFile.write(pos.x & 31, pos.z & 31, buffer.getBuffer(), buffer.size());
+                return;
+            } catch (Exception e) {
+                lastException = e;
+            }
+        }
+        SpongeImpl.getLogger().error("Failed to save chunk {} in {}", pos, this.saveLocation, lastException);
+    }
+
+    private static ChunkBuffer compress(NBTTagCompound compound) throws Exception {
+        final Deflater deflater = DEFLATER.get();
+        final ChunkBuffer buffer = BUFFER.get();
+        deflater.reset();
+        buffer.reset();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(buffer, deflater)))) {
+            CompressedStreamTools.write(compound, out);
+        }
+        return buffer;
+    }
+
+    private static final class Region {
+
+        final ArrayDeque<QueuedChunk> chunks = new ArrayDeque<>();
+        boolean scheduled;
+    }
+
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+        ChunkBuffer() {
+            super(8096);
+        }
+
+        byte[] getBuffer() {
+            return this.buf;
+        }
+    }
+}
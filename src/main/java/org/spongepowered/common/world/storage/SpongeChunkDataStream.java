@@ -28,6 +28,7 @@
 import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
 
 import java.io.DataInputStream;
 import java.io.IOException;
@@ -35,18 +36,32 @@
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class SpongeChunkDataStream implements ChunkDataStream {
 
+    private static final int REGION_CHUNKS = 32 * 32;
+
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        @Nullable private final RegionFile file;
+        @Nullable private final MappedRegionFile mappedFile;
         public int index;
 
         public RegionFileItr(RegionFile regionFile) {
             this.file = regionFile;
+            this.mappedFile = null;
+        }
+
+        public RegionFileItr(@Nullable MappedRegionFile regionFile) {
+            this.file = null;
+            this.mappedFile = regionFile;
         }
 
         public int getNext() {
+            if (this.file == null) {
+                return getNextMapped();
+            }
             int index = this.index;
             int[] offsets = this.file.offsets;
             while (index != -1 && index < offsets.length && offsets[index] == 0) {
@@ -58,7 +73,24 @@ public int getNext() {
             return index;
         }
 
+        private int getNextMapped() {
+            if (this.mappedFile == null) {
+                return -1;
+            }
+            int index = this.index;
+            while (index != -1 && index < REGION_CHUNKS && !this.mappedFile.hasChunk(index)) {
+                index++;
+            }
+            if (index >= REGION_CHUNKS) {
+                return -1;
+            }
+            return index;
+        }
+
         public DataInputStream getStreamAt(int index) {
+            if (this.file == null) {
+                return this.mappedFile == null ? null : this.mappedFile.getChunkInputStream(index);
+            }
             int x = index & 31;
             int z = index >>> 5;
             return this.file.getChunkDataInputStream(x, z);
@@ -81,7 +113,11 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
+                if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useMappedRegionFiles()) {
+                    this.regionFileItr = new RegionFileItr(MappedRegionFileCache.getRegionFile(file.toFile()));
+                } else {
+                    this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
+                }
                 this.openedFiles.add(file);
                 return true;
             }
@@ -48,6 +48,8 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
+
 public class WorldStorageUtil {
 
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
@@ -68,11 +70,46 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         }
         File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
+            DataInputStream stream = getChunkInputStream(worldDir, x, z);
             return Optional.ofNullable(readDataFromRegion(stream));
         });
     }
 
+    /**
+     * Opens a stream to read a saved chunk, from a memory mapped region file
+     * if enabled in the config.
+     *
+     * @param worldDir The world directory containing the region folder
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The stream, or null if the chunk isn't saved
+     */
+    @Nullable
+    public static DataInputStream getChunkInputStream(File worldDir, int x, int z) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useMappedRegionFiles()) {
+            return RegionFileCache.getChunkInputStream(worldDir, x, z);
+        }
+        MappedRegionFile regionFile = MappedRegionFileCache.getRegionFile(worldDir, x, z);
+        return regionFile == null ? null : regionFile.getChunkInputStream(x, z);
+    }
+
+    /**
+     * Checks whether a chunk is saved in its region file, without reading it
+     * if memory mapped region files are enabled in the config.
+     *
+     * @param worldDir The world directory containing the region folder
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether the chunk is saved
+     */
+    public static boolean isChunkSaved(File worldDir, int x, int z) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useMappedRegionFiles()) {
+            return RegionFileCache.getChunkInputStream(worldDir, x, z) != null;
+        }
+        MappedRegionFile regionFile = MappedRegionFileCache.getRegionFile(worldDir, x, z);
+        return regionFile != null && regionFile.hasChunk(x, z);
+    }
+
     public static DataContainer readDataFromRegion(DataInputStream stream) throws IOException {
         if (stream == null) {
             return null;
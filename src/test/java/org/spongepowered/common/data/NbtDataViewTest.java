@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+
+import java.util.Optional;
+
+public class NbtDataViewTest {
+
+    private static NBTTagCompound createCompound() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("id", "minecraft:zombie");
+        compound.setInteger("Health", 20);
+        compound.setBoolean("Glowing" + NbtTranslator.BOOLEAN_IDENTIFER, true);
+        final NBTTagCompound inner = new NBTTagCompound();
+        inner.setDouble("Speed", 0.25D);
+        compound.setTag("Attributes", inner);
+        final NBTTagList list = new NBTTagList();
+        list.appendTag(new NBTTagCompound());
+        list.appendTag(new NBTTagCompound());
+        compound.setTag("Passengers", list);
+        return compound;
+    }
+
+    @Test
+    public void testReads() {
+        final DataView view = new NbtDataContainer(createCompound());
+        assertEquals(Optional.of("minecraft:zombie"), view.getString(DataQuery.of("id")));
+        assertEquals(Optional.of(20), view.getInt(DataQuery.of("Health")));
+        assertEquals(Optional.of(true), view.getBoolean(DataQuery.of("Glowing")));
+        assertEquals(Optional.of(0.25D), view.getDouble(DataQuery.of("Attributes", "Speed")));
+        assertEquals(DataQuery.of("Attributes"), view.getView(DataQuery.of("Attributes")).get().getCurrentPath());
+        assertEquals(2, view.getViewList(DataQuery.of("Passengers")).get().size());
+        assertTrue(view.contains(DataQuery.of("Glowing")));
+        assertFalse(view.contains(DataQuery.of("Attributes", "Missing")));
+        assertEquals(5, view.getKeys(false).size());
+    }
+
+    @Test
+    public void testMatchesTranslatedContainer() {
+        final NBTTagCompound compound = createCompound();
+        final DataContainer eager = NbtTranslator.getInstance().translateFrom(compound);
+        final DataView lazy = new NbtDataContainer(compound);
+        assertEquals(eager.getKeys(true), lazy.getKeys(true));
+        assertEquals(eager, lazy.copy(DataView.SafetyMode.NO_DATA_CLONED));
+        assertEquals(compound, NbtTranslator.getInstance().translateData(lazy));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        new NbtDataContainer(createCompound()).set(DataQuery.of("id"), "minecraft:skeleton");
+    }
+
+    @Test
+    public void testCopiedOnWrite() {
+        final NBTTagCompound compound = createCompound();
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("UnsafeData"), new NbtDataContainer(compound));
+        assertTrue(container.getView(DataQuery.of("UnsafeData")).get() instanceof NbtDataView);
+        assertEquals(DataQuery.of("UnsafeData", "Attributes"),
+                container.getView(DataQuery.of("UnsafeData", "Attributes")).get().getCurrentPath());
+
+        container.set(DataQuery.of("UnsafeData", "Health"), 10);
+        assertEquals(Optional.of(10), container.getInt(DataQuery.of("UnsafeData", "Health")));
+        assertEquals(Optional.of("minecraft:zombie"), container.getString(DataQuery.of("UnsafeData", "id")));
+        assertEquals(20, compound.getInteger("Health"));
+    }
+
+    @Test
+    public void testChildViewCopiedOnWrite() {
+        final NBTTagCompound compound = createCompound();
+        final DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("UnsafeData"), new NbtDataContainer(compound));
+
+        final DataView child = container.getView(DataQuery.of("UnsafeData")).get();
+        child.set(DataQuery.of("Health"), 10);
+        assertEquals(Optional.of(10), child.getInt(DataQuery.of("Health")));
+        assertEquals(Optional.of(10), container.getInt(DataQuery.of("UnsafeData", "Health")));
+
+        final DataView attributes = new MemoryDataContainer()
+                .set(DataQuery.of("UnsafeData"), new NbtDataContainer(compound))
+                .getView(DataQuery.of("UnsafeData", "Attributes")).get();
+        attributes.set(DataQuery.of("Speed"), 0.5D);
+        assertEquals(Optional.of(0.5D), attributes.getContainer().getDouble(DataQuery.of("UnsafeData", "Attributes", "Speed")));
+
+        assertEquals(20, compound.getInteger("Health"));
+        assertEquals(0.25D, compound.getCompoundTag("Attributes").getDouble("Speed"), 0);
+    }
+
+}
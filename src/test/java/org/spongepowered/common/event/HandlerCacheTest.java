@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import co.aikar.timings.Timings;
+import co.aikar.timings.TimingsFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+import org.spongepowered.common.event.listener.CountingListener;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+public class HandlerCacheTest extends InjectedTest {
+
+    private EventManager eventManager;
+    private Object plugin;
+    private Cause cause;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        Field field = Timings.class.getDeclaredField("factory");
+        field.setAccessible(true);
+
+        Field modifiersField = Field.class.getDeclaredField("modifiers");
+        modifiersField.setAccessible(true);
+        modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+
+        field.set(null, Mockito.mock(TimingsFactory.class));
+
+        this.plugin = new Object();
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+
+        this.cause = Cause.source(this).build();
+    }
+
+    private void postAll() {
+        this.eventManager.post(new EventFilterTest.SubEvent(this.cause));
+        this.eventManager.post(new EventFilterTest.OtherSubEvent(this.cause));
+    }
+
+    @Test
+    public void testRegisterAfterBake() {
+        // Bake the handlers of both event types before anything is registered
+        this.postAll();
+
+        CountingListener listener = new CountingListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        this.postAll();
+
+        Assert.assertEquals("Root listener was not called for both events!", 2, listener.rootCalls);
+        Assert.assertEquals("Sub listener was not called exactly once!", 1, listener.subCalls);
+    }
+
+    @Test
+    public void testUnregisterAfterBake() {
+        CountingListener first = new CountingListener();
+        CountingListener second = new CountingListener();
+        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
+        this.postAll();
+
+        Assert.assertEquals(2, first.rootCalls);
+        Assert.assertEquals(1, first.subCalls);
+        Assert.assertEquals(2, second.rootCalls);
+        Assert.assertEquals(1, second.subCalls);
+
+        this.eventManager.unregisterListeners(first);
+        this.postAll();
+
+        Assert.assertEquals("Unregistered root listener was called!", 2, first.rootCalls);
+        Assert.assertEquals("Unregistered sub listener was called!", 1, first.subCalls);
+        Assert.assertEquals("Remaining root listener was not called for both events!", 4, second.rootCalls);
+        Assert.assertEquals("Remaining sub listener was not called!", 2, second.subCalls);
+
+        this.eventManager.unregisterListeners(second);
+        this.postAll();
+
+        Assert.assertEquals("Unregistered root listener was called!", 4, second.rootCalls);
+        Assert.assertEquals("Unregistered sub listener was called!", 2, second.subCalls);
+    }
+
+    @Test
+    public void testUnregisterPluginListeners() {
+        CountingListener listener = new CountingListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        this.postAll();
+
+        this.eventManager.unregisterPluginListeners(this.plugin);
+        this.postAll();
+
+        Assert.assertEquals("Unregistered root listener was called!", 2, listener.rootCalls);
+        Assert.assertEquals("Unregistered sub listener was called!", 1, listener.subCalls);
+
+        // Registering again patches the handlers baked while it was absent
+        this.eventManager.registerListeners(this.plugin, listener);
+        this.postAll();
+
+        Assert.assertEquals("Re-registered root listener was not called!", 4, listener.rootCalls);
+        Assert.assertEquals("Re-registered sub listener was not called!", 2, listener.subCalls);
+    }
+
+}
@@ -28,6 +28,8 @@
 import static org.mockito.Mockito.when;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.spongepowered.api.data.DataContainer;
@@ -63,4 +65,39 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testCompoundRoundTrip() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("id", "minecraft:diamond_sword");
+        compound.setByte("Count", (byte) 1);
+        compound.setShort("Damage", (short) 12);
+        final NBTTagCompound tag = new NBTTagCompound();
+        final NBTTagList enchantments = new NBTTagList();
+        for (int i = 0; i < 3; i++) {
+            final NBTTagCompound enchantment = new NBTTagCompound();
+            enchantment.setShort("id", (short) i);
+            enchantment.setShort("lvl", (short) (i + 1));
+            enchantments.appendTag(enchantment);
+        }
+        tag.setTag("ench", enchantments);
+        final NBTTagCompound display = new NBTTagCompound();
+        final NBTTagList lore = new NBTTagList();
+        lore.appendTag(new NBTTagString("first"));
+        lore.appendTag(new NBTTagString("second"));
+        display.setTag("Lore", lore);
+        tag.setTag("display", display);
+        tag.setIntArray("Ints", new int[] {1, 2, 3});
+        tag.setByteArray("Bytes", new byte[] {4, 5});
+        tag.setLong("Long", Long.MAX_VALUE);
+        tag.setDouble("Double", 2.5D);
+        tag.setFloat("Float", 1.5F);
+        tag.setBoolean("Unbreakable" + NbtTranslator.BOOLEAN_IDENTIFER, true);
+        compound.setTag("tag", tag);
+
+        final DataView view = NbtTranslator.getInstance().translateFrom(compound);
+        assertEquals(Boolean.TRUE, view.get(DataQuery.of("tag", "Unbreakable")).get());
+        assertEquals(3, view.getViewList(DataQuery.of("tag", "ench")).get().size());
+        assertEquals(compound, NbtTranslator.getInstance().translateData(view));
+    }
+
 }
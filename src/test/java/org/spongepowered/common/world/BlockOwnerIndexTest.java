@@ -0,0 +1,128 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BlockOwnerIndexTest {
+
+    @Test
+    public void testKeyRoundTrip() {
+        for (int y = 0; y < 512; y += 7) {
+            final int key = BlockOwnerIndex.key(31, y, -3);
+            assertEquals(15, BlockOwnerIndex.keyX(key));
+            assertEquals(y, BlockOwnerIndex.keyY(key));
+            assertEquals(13, BlockOwnerIndex.keyZ(key));
+        }
+    }
+
+    @Test
+    public void testOwnerAndNotifier() {
+        final BlockOwnerIndex index = new BlockOwnerIndex();
+        final int key = BlockOwnerIndex.key(0, 0, 0);
+        assertFalse(index.contains(key));
+        assertEquals(BlockOwnerIndex.NO_INDEX, index.getOwner(key));
+        assertEquals(BlockOwnerIndex.NO_INDEX, index.getNotifier(key));
+
+        index.setOwner(key, 3);
+        assertEquals(3, index.getOwner(key));
+        assertEquals(BlockOwnerIndex.NO_INDEX, index.getNotifier(key));
+
+        index.setNotifier(key, 7);
+        assertEquals(3, index.getOwner(key));
+        assertEquals(7, index.getNotifier(key));
+
+        index.setOwner(key, BlockOwnerIndex.NO_INDEX);
+        index.setNotifier(key, BlockOwnerIndex.NO_INDEX);
+        assertFalse(index.contains(key));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void testSectionPresence() {
+        final BlockOwnerIndex index = new BlockOwnerIndex();
+        final int key = BlockOwnerIndex.key(5, 37, 9);
+        final int neighbor = BlockOwnerIndex.key(6, 37, 9);
+        assertFalse(index.hasTrackedBlocks(2));
+
+        index.setNotifier(key, 1);
+        index.setNotifier(neighbor, 2);
+        assertTrue(index.hasTrackedBlocks(2));
+        assertFalse(index.hasTrackedBlocks(3));
+        assertTrue(index.contains(key));
+        assertFalse(index.contains(BlockOwnerIndex.key(5, 38, 9)));
+
+        index.remove(key);
+        assertFalse(index.contains(key));
+        assertEquals(2, index.getNotifier(neighbor));
+        assertTrue(index.hasTrackedBlocks(2));
+
+        index.remove(neighbor);
+        assertFalse(index.hasTrackedBlocks(2));
+    }
+
+    @Test
+    public void testPositionAboveSections() {
+        final BlockOwnerIndex index = new BlockOwnerIndex();
+        final int key = BlockOwnerIndex.key(1, 300, 1);
+        index.setOwner(key, 4);
+        assertTrue(index.contains(key));
+        assertEquals(4, index.getOwner(key));
+        index.remove(key);
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void testDenseChunkSerialization() {
+        final BlockOwnerIndex index = new BlockOwnerIndex();
+        for (int y = 0; y < 256; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    index.set(BlockOwnerIndex.key(x, y, z), y, x * 16 + z);
+                }
+            }
+        }
+        assertEquals(16 * 16 * 256, index.size());
+
+        final int[] data = index.toIntArray();
+        assertEquals(index.size() * 3, data.length);
+
+        final BlockOwnerIndex read = BlockOwnerIndex.fromIntArray(data);
+        assertEquals(index.size(), read.size());
+        for (int y = 0; y < 256; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    final int key = BlockOwnerIndex.key(x, y, z);
+                    assertEquals(y, read.getOwner(key));
+                    assertEquals(x * 16 + z, read.getNotifier(key));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+
+public class MappedRegionFileTest {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void closeRegionFiles() {
+        // Reads lock the vanilla region file, which is opened on demand
+        RegionFileCache.clearRegionFileReferences();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeChunk(RandomAccessFile file, int index, int sector, byte[] data) throws IOException {
+        byte[] compressed = deflate(data);
+        int sectors = (compressed.length + 5) / 4096 + 1;
+        file.seek(index * 4);
+        file.writeInt(sector << 8 | sectors);
+        file.seek(sector * 4096);
+        file.writeInt(compressed.length + 1);
+        file.writeByte(2);
+        file.write(compressed);
+        file.setLength(Math.max(file.length(), (sector + sectors) * 4096));
+    }
+
+    private static byte[] readFully(DataInputStream stream, int length) throws IOException {
+        byte[] data = new byte[length];
+        stream.readFully(data);
+        Assert.assertEquals(-1, stream.read());
+        return data;
+    }
+
+    @Test
+    public void testReadChunks() throws IOException {
+        File regionFile = this.folder.newFile("r.0.0.mca");
+        byte[] first = "first chunk".getBytes("UTF-8");
+        byte[] second = new byte[10000];
+        for (int i = 0; i < second.length; i++) {
+            second[i] = (byte) (i * 31);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(regionFile, "rw")) {
+            file.setLength(8192);
+            writeChunk(file, 0, 2, first);
+            writeChunk(file, 33, 3, second);
+        }
+
+        MappedRegionFile mapped = new MappedRegionFile(regionFile);
+        Assert.assertTrue(mapped.hasChunk(0, 0));
+        Assert.assertTrue(mapped.hasChunk(1, 1));
+        Assert.assertFalse(mapped.hasChunk(1, 0));
+        Assert.assertNull(mapped.getChunkInputStream(1, 0));
+        Assert.assertArrayEquals(first, readFully(mapped.getChunkInputStream(0, 0), first.length));
+        Assert.assertArrayEquals(second, readFully(mapped.getChunkInputStream(33), second.length));
+        mapped.close();
+    }
+
+    @Test
+    public void testRemapAfterGrowth() throws IOException {
+        File regionFile = this.folder.newFile("r.0.0.mca");
+        byte[] data = "appended chunk".getBytes("UTF-8");
+        try (RandomAccessFile file = new RandomAccessFile(regionFile, "rw")) {
+            file.setLength(8192);
+        }
+
+        MappedRegionFile mapped = new MappedRegionFile(regionFile);
+        Assert.assertFalse(mapped.hasChunk(5, 7));
+        try (RandomAccessFile file = new RandomAccessFile(regionFile, "rw")) {
+            writeChunk(file, 5 + 7 * 32, 2, data);
+        }
+        Assert.assertTrue(mapped.hasChunk(5, 7));
+        Assert.assertArrayEquals(data, readFully(mapped.getChunkInputStream(5, 7), data.length));
+        mapped.close();
+    }
+
+    @Test
+    public void testReadWhileWriting() throws IOException {
+        File regionFile = this.folder.newFile("r.0.0.mca");
+        byte[] data = "written chunk".getBytes("UTF-8");
+        try (RandomAccessFile file = new RandomAccessFile(regionFile, "rw")) {
+            file.setLength(8192);
+            writeChunk(file, 0, 2, data);
+        }
+
+        MappedRegionFile mapped = new MappedRegionFile(regionFile);
+        AtomicLong stamp = MappedRegionFileCache.getWriteStamp(regionFile);
+        // A write is in progress, the chunk is read through the region file
+        stamp.incrementAndGet();
+        Assert.assertArrayEquals(data, readFully(mapped.getChunkInputStream(0, 0), data.length));
+        stamp.incrementAndGet();
+        Assert.assertArrayEquals(data, readFully(mapped.getChunkInputStream(0, 0), data.length));
+        mapped.close();
+    }
+}